@@ -0,0 +1,76 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import poussecafe.source.analysis.ClassFileClassResolver;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.ClassName;
+import poussecafe.source.analysis.ClassResolver;
+import poussecafe.source.analysis.CompilationUnitResolver;
+import poussecafe.source.analysis.ResolvedClass;
+import poussecafe.source.analysis.SourceModelBuilder;
+import poussecafe.source.model.SourceModel;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClassResolverBenchmark {
+
+    @Param({ "class-loader", "class-file" })
+    public String resolver;
+
+    @Benchmark
+    public SourceModel sourceModel() throws IOException {
+        var builder = new SourceModelBuilder.Builder()
+                .classResolver(classResolver())
+                .build();
+        builder.includeTree(ScanningBenchmark.TEST_MODEL_DIRECTORY);
+        return builder.build();
+    }
+
+    private ClassResolver classResolver() {
+        switch(resolver) {
+        case "class-loader":
+            return new ClassLoaderClassResolver();
+        case "class-file":
+            return new ClassFileClassResolver.Builder()
+                    .classLoader(getClass().getClassLoader())
+                    .build();
+        default:
+            throw new IllegalArgumentException("Unsupported resolver " + resolver);
+        }
+    }
+
+    @Benchmark
+    public void frameworkClasses(Blackhole blackhole) {
+        var classResolver = classResolver();
+        for(String className : FRAMEWORK_CLASSES) {
+            Optional<ResolvedClass> resolvedClass = classResolver.loadClass(new ClassName(className));
+            blackhole.consume(resolvedClass.orElseThrow().subtypeOf(CompilationUnitResolver.AGGREGATE_ROOT_CLASS));
+        }
+    }
+
+    private static final List<String> FRAMEWORK_CLASSES = List.of(
+            CompilationUnitResolver.AGGREGATE_ROOT_CLASS,
+            CompilationUnitResolver.FACTORY_CLASS,
+            CompilationUnitResolver.REPOSITORY_CLASS,
+            CompilationUnitResolver.PROCESS_INTERFACE,
+            "poussecafe.source.testmodel.model.aggregate1.Aggregate1",
+            "poussecafe.source.testmodel.model.aggregate2.Process1Listener2Runner");
+}
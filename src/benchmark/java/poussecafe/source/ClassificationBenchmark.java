@@ -0,0 +1,61 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.ComponentClassifier;
+import poussecafe.source.analysis.ResolvedCompilationUnitVisitor;
+import poussecafe.source.analysis.ResolvedTypeDeclaration;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClassificationBenchmark {
+
+    @Setup
+    public void scanTestModel() throws IOException {
+        var scanner = new MultiVisitorScanner.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .withVisitor(new ResolvedCompilationUnitVisitor() {
+                    @Override
+                    public boolean visit(ResolvedTypeDeclaration type) {
+                        types.add(type);
+                        return true;
+                    }
+                })
+                .build();
+        scanner.includeTree(ScanningBenchmark.TEST_MODEL_DIRECTORY);
+    }
+
+    private List<ResolvedTypeDeclaration> types = new ArrayList<>();
+
+    @Benchmark
+    public void classify(Blackhole blackhole) {
+        for(ResolvedTypeDeclaration type : types) {
+            blackhole.consume(ComponentClassifier.classify(type));
+        }
+    }
+
+    @Benchmark
+    public void classification(Blackhole blackhole) {
+        for(ResolvedTypeDeclaration type : types) {
+            blackhole.consume(type.classification());
+        }
+    }
+}
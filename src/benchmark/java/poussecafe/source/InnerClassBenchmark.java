@@ -0,0 +1,75 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import poussecafe.source.analysis.ClassFileClassResolver;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.ClassName;
+import poussecafe.source.analysis.ClassResolver;
+import poussecafe.source.analysis.ResolvedClass;
+import poussecafe.source.analysis.SourceClassResolver;
+import poussecafe.source.analysis.SourceSymbolTable;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InnerClassBenchmark {
+
+    @Param({ "class-loader", "class-file", "source" })
+    public String resolver;
+
+    @Setup
+    public void loadAggregateContainer() throws IOException {
+        aggregateContainer = classResolver().loadClass(new ClassName(AGGREGATE_CONTAINER_CLASS)).orElseThrow();
+    }
+
+    private ResolvedClass aggregateContainer;
+
+    private static final String AGGREGATE_CONTAINER_CLASS = "poussecafe.source.testmodel.model.aggregate1.Aggregate1";
+
+    private ClassResolver classResolver() throws IOException {
+        switch(resolver) {
+        case "class-loader":
+            return new ClassLoaderClassResolver();
+        case "class-file":
+            return new ClassFileClassResolver.Builder()
+                    .classLoader(getClass().getClassLoader())
+                    .build();
+        case "source":
+            return new SourceClassResolver.Builder()
+                    .symbolTable(new SourceSymbolTable.Builder()
+                            .includeTree(ScanningBenchmark.TEST_MODEL_DIRECTORY)
+                            .build())
+                    .fallback(new ClassLoaderClassResolver())
+                    .build();
+        default:
+            throw new IllegalArgumentException("Unsupported resolver " + resolver);
+        }
+    }
+
+    @Benchmark
+    public List<ResolvedClass> innerClasses() {
+        return aggregateContainer.innerClasses();
+    }
+
+    @Benchmark
+    public Optional<ResolvedClass> innerClass() {
+        return aggregateContainer.innerClass("Repository");
+    }
+}
@@ -0,0 +1,81 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.SourceModelBuilder;
+import poussecafe.source.model.SourceModel;
+import poussecafe.source.validation.ValidationModelBuilder;
+import poussecafe.source.validation.model.ValidationModel;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScanningBenchmark {
+
+    @Param({ "default", "parallel", "batch", "bindings", "full-profile", "detached" })
+    public String configuration;
+
+    @Benchmark
+    public SourceModel sourceModel() throws IOException {
+        var builder = new SourceModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .configuration(scannerConfiguration())
+                .build();
+        builder.includeTree(TEST_MODEL_DIRECTORY);
+        return builder.build();
+    }
+
+    static final Path TEST_MODEL_DIRECTORY = Path.of("", "src", "test", "java", "poussecafe", "source", "testmodel");
+
+    private ScannerConfiguration scannerConfiguration() {
+        var builder = new ScannerConfiguration.Builder();
+        switch(configuration) {
+        case "default":
+            break;
+        case "parallel":
+            builder.parallelScanning(true);
+            break;
+        case "batch":
+            builder.parsingMode(ParsingMode.BATCH);
+            break;
+        case "bindings":
+            builder.parsingMode(ParsingMode.BINDINGS);
+            break;
+        case "full-profile":
+            builder.parseProfile(ParseProfile.FULL);
+            break;
+        case "detached":
+            builder.compilationUnitCache(new CompilationUnitCache(CompilationUnitCache.DEFAULT_MAX_RETAINED_UNITS))
+                    .detachCompilationUnits(true);
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported configuration " + configuration);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public ValidationModel validationModel() throws IOException {
+        var builder = new ValidationModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .configuration(scannerConfiguration())
+                .build();
+        builder.includeTree(TEST_MODEL_DIRECTORY);
+        return builder.build();
+    }
+}
@@ -0,0 +1,11 @@
+package poussecafe.source;
+
+import java.nio.file.Path;
+
+public class AcceptAllSourceFilter implements SourceFilter {
+
+    @Override
+    public boolean accepts(Path sourceFile) {
+        return true;
+    }
+}
@@ -0,0 +1,387 @@
+package poussecafe.source;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+public class AnalysisCache {
+
+    public String key(String contributorsSignature, String sourceId, ByteBuffer content) {
+        var digest = newDigest();
+        digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(contributorsSignature.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(sourceId.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content);
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        var hex = new StringBuilder(bytes.length * 2);
+        for(byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private String fingerprint;
+
+    public boolean contains(String key) {
+        return Files.exists(entryPath(key));
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key + ENTRY_SUFFIX);
+    }
+
+    private static final String ENTRY_SUFFIX = ".contrib";
+
+    private Path directory;
+
+    public Optional<CachedAnalysis> get(String key) {
+        var entryPath = entryPath(key);
+        try(var input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(entryPath)))) {
+            input.setObjectInputFilter(ENTRY_FILTER);
+            var analysis = (CachedAnalysis) input.readObject();
+            if(!dependenciesUnchanged(analysis)) {
+                logger.debug("Dropping cache entry {} because a dependency changed", entryPath);
+                deleteIfExists(entryPath);
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            touch(entryPath);
+            hits.incrementAndGet();
+            return Optional.of(analysis);
+        } catch (NoSuchFileException e) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.warn("Dropping unreadable cache entry {}", entryPath, e);
+            deleteIfExists(entryPath);
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    private boolean dependenciesUnchanged(CachedAnalysis analysis) {
+        for(var dependency : analysis.dependencyHashes().entrySet()) {
+            var dependencyPath = Path.of(dependency.getKey());
+            try {
+                if(!contentHash(dependencyPath).equals(dependency.getValue())) {
+                    return false;
+                }
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String contentHash(Path file) throws IOException {
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        var state = attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        var knownHash = contentHashes.get(file);
+        if(knownHash != null && knownHash.state.equals(state)) {
+            return knownHash.hash;
+        }
+
+        var digest = newDigest();
+        digest.update(Files.readAllBytes(file));
+        var hash = new FileHash(state, toHex(digest.digest()));
+        contentHashes.put(file, hash);
+        return hash.hash;
+    }
+
+    private Map<Path, FileHash> contentHashes = new ConcurrentHashMap<>();
+
+    private static class FileHash {
+
+        FileHash(String state, String hash) {
+            this.state = state;
+            this.hash = hash;
+        }
+
+        private String state;
+
+        private String hash;
+    }
+
+    private static final ObjectInputFilter ENTRY_FILTER = ObjectInputFilter.Config.createFilter(
+            "poussecafe.**;java.base/*;!*");
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    private void touch(Path entryPath) {
+        try {
+            Files.setLastModifiedTime(entryPath, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            logger.debug("Unable to touch cache entry {}", entryPath, e);
+        }
+    }
+
+    private void deleteIfExists(Path entryPath) {
+        try {
+            Files.deleteIfExists(entryPath);
+        } catch (IOException e) {
+            logger.debug("Unable to delete cache entry {}", entryPath, e);
+        }
+    }
+
+    public void put(String key, CachedAnalysis analysis) {
+        var entryPath = entryPath(key);
+        Path temporaryPath = null;
+        try {
+            temporaryPath = Files.createTempFile(directory, key, ".tmp");
+            try(var output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+                output.writeObject(analysis);
+            }
+            long entrySize = Files.size(temporaryPath);
+            moveAtomically(temporaryPath, entryPath);
+            writes.incrementAndGet();
+            if(currentSize().addAndGet(entrySize) > maxSizeInBytes) {
+                trim();
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to write cache entry {}", entryPath, e);
+            if(temporaryPath != null) {
+                deleteIfExists(temporaryPath);
+            }
+        }
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private synchronized AtomicLong currentSize() throws IOException {
+        if(currentSize == null) {
+            long size = 0;
+            for(Path entry : entries()) {
+                size += sizeOrZero(entry);
+            }
+            currentSize = new AtomicLong(size);
+        }
+        return currentSize;
+    }
+
+    private AtomicLong currentSize;
+
+    private List<Path> entries() throws IOException {
+        try(var files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                    .collect(toList());
+        }
+    }
+
+    private long sizeOrZero(Path entry) {
+        try {
+            return Files.size(entry);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    public synchronized void trim() throws IOException {
+        var entries = entries();
+        entries.sort(Comparator.comparing(this::lastModifiedOrEpoch));
+        long size = 0;
+        for(Path entry : entries) {
+            size += sizeOrZero(entry);
+        }
+
+        long targetSize = maxSizeInBytes - maxSizeInBytes / 10;
+        var entriesIterator = entries.iterator();
+        while(size > targetSize && entriesIterator.hasNext()) {
+            var entry = entriesIterator.next();
+            long entrySize = sizeOrZero(entry);
+            deleteIfExists(entry);
+            size -= entrySize;
+            evictions.incrementAndGet();
+        }
+        currentSize().set(size);
+    }
+
+    private FileTime lastModifiedOrEpoch(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private long maxSizeInBytes = DEFAULT_MAX_SIZE_IN_BYTES;
+
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 256L * 1024L * 1024L;
+
+    public long hits() {
+        return hits.get();
+    }
+
+    private AtomicLong hits = new AtomicLong();
+
+    public long misses() {
+        return misses.get();
+    }
+
+    private AtomicLong misses = new AtomicLong();
+
+    public long writes() {
+        return writes.get();
+    }
+
+    private AtomicLong writes = new AtomicLong();
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    private AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Fingerprints the class path entries with their size and last modification time. Classes loaded from the class
+     * path are not tracked per entry, so when the scanned project's output directory is part of the class path, each
+     * recompilation invalidates all entries. Classes declared by scanned sources are tracked by each entry instead,
+     * so excluding the project's output directory from the given class path keeps entries valid across recompilations.
+     */
+    public static String classPathFingerprint(List<Path> classPath) {
+        var digest = newDigest();
+        digest.update(libraryVersion().getBytes(StandardCharsets.UTF_8));
+        for(Path entry : classPath) {
+            digest.update((byte) 0);
+            digest.update(entry.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(entryState(entry).getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String libraryVersion() {
+        var version = AnalysisCache.class.getPackage().getImplementationVersion();
+        if(version == null) {
+            return "unknown";
+        } else {
+            return version;
+        }
+    }
+
+    private static String entryState(Path entry) {
+        try {
+            if(Files.isDirectory(entry)) {
+                return directoryState(entry);
+            } else if(Files.exists(entry)) {
+                return fileState(entry, Files.readAttributes(entry, BasicFileAttributes.class));
+            } else {
+                return "";
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to fingerprint class path entry " + entry, e);
+        }
+    }
+
+    private static String directoryState(Path directory) throws IOException {
+        var state = new DirectoryState();
+        Files.walkFileTree(directory, state);
+        return state.files + ":" + state.totalSize + ":" + state.lastModified;
+    }
+
+    private static class DirectoryState extends SimpleFileVisitor<Path> {
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            ++files;
+            totalSize += attributes.size();
+            lastModified = Math.max(lastModified, attributes.lastModifiedTime().toMillis());
+            return FileVisitResult.CONTINUE;
+        }
+
+        private long files;
+
+        private long totalSize;
+
+        private long lastModified;
+    }
+
+    private static String fileState(Path file, BasicFileAttributes attributes) {
+        return file + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+    }
+
+    public static class Builder {
+
+        private AnalysisCache cache = new AnalysisCache();
+
+        public AnalysisCache build() {
+            requireNonNull(cache.directory);
+            requireNonNull(cache.fingerprint);
+            if(cache.maxSizeInBytes <= 0) {
+                throw new IllegalStateException("Max size must be positive");
+            }
+            try {
+                Files.createDirectories(cache.directory);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to create cache directory " + cache.directory, e);
+            }
+            return cache;
+        }
+
+        public Builder directory(Path directory) {
+            cache.directory = directory;
+            return this;
+        }
+
+        public Builder fingerprint(String fingerprint) {
+            cache.fingerprint = fingerprint;
+            return this;
+        }
+
+        public Builder maxSizeInBytes(long maxSizeInBytes) {
+            cache.maxSizeInBytes = maxSizeInBytes;
+            return this;
+        }
+    }
+
+    private AnalysisCache() {
+
+    }
+}
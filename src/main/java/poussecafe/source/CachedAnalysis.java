@@ -0,0 +1,44 @@
+package poussecafe.source;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+@SuppressWarnings("serial")
+public class CachedAnalysis implements Serializable {
+
+    public List<Serializable> contributions() {
+        return Collections.unmodifiableList(contributions);
+    }
+
+    private ArrayList<Serializable> contributions;
+
+    public SourceDependencies dependencies() {
+        return dependencies;
+    }
+
+    private SourceDependencies dependencies;
+
+    public Map<String, String> dependencyHashes() {
+        return Collections.unmodifiableMap(dependencyHashes);
+    }
+
+    private HashMap<String, String> dependencyHashes;
+
+    public CachedAnalysis(List<Serializable> contributions, SourceDependencies dependencies,
+            Map<String, String> dependencyHashes) {
+        requireNonNull(contributions);
+        this.contributions = new ArrayList<>(contributions);
+
+        requireNonNull(dependencies);
+        this.dependencies = dependencies;
+
+        requireNonNull(dependencyHashes);
+        this.dependencyHashes = new HashMap<>(dependencyHashes);
+    }
+}
@@ -0,0 +1,57 @@
+package poussecafe.source;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+public class CompilationUnitCache {
+
+    public static CompilationUnitCache sharedCache() {
+        return SHARED_CACHE;
+    }
+
+    public static final int DEFAULT_MAX_RETAINED_UNITS = 256;
+
+    private static final CompilationUnitCache SHARED_CACHE = new CompilationUnitCache(DEFAULT_MAX_RETAINED_UNITS);
+
+    public CompilationUnitCache(int maxRetainedUnits) {
+        if(maxRetainedUnits < 0) {
+            throw new IllegalArgumentException("Max retained units must be positive or zero");
+        }
+        this.maxRetainedUnits = maxRetainedUnits;
+    }
+
+    private int maxRetainedUnits;
+
+    public int maxRetainedUnits() {
+        return maxRetainedUnits;
+    }
+
+    synchronized void retain(Source source, CompilationUnit compilationUnit) {
+        if(maxRetainedUnits > 0) {
+            retainedUnits.put(source, compilationUnit);
+        }
+    }
+
+    private Map<Source, CompilationUnit> retainedUnits = new LinkedHashMap<>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Source, CompilationUnit> eldest) {
+            return size() > maxRetainedUnits;
+        }
+    };
+
+    synchronized void release(Source source) {
+        retainedUnits.remove(source);
+    }
+
+    public synchronized int size() {
+        return retainedUnits.size();
+    }
+
+    public synchronized void clear() {
+        retainedUnits.clear();
+    }
+}
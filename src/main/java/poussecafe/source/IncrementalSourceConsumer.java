@@ -0,0 +1,14 @@
+package poussecafe.source;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+
+public interface IncrementalSourceConsumer extends SourceConsumer {
+
+    Set<String> update(Collection<Path> changedFiles);
+
+    void forget(String sourceId);
+
+    Set<String> sourceIds();
+}
@@ -0,0 +1,149 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.ClassResolver;
+import poussecafe.source.analysis.ResolvedCompilationUnitVisitor;
+import poussecafe.source.analysis.SourceModelBuilderVisitor;
+import poussecafe.source.analysis.TypeResolvingCompilationUnitVisitor;
+import poussecafe.source.metrics.PipelineMetrics;
+import poussecafe.source.model.SourceModel;
+import poussecafe.source.validation.ValidationModelBuilderVisitor;
+import poussecafe.source.validation.model.ValidationModel;
+
+import static java.util.Objects.requireNonNull;
+
+public class MultiVisitorScanner implements IncrementalSourceConsumer {
+
+    @Override
+    public void includeFile(Path sourceFilePath) throws IOException {
+        scanner.includeFile(sourceFilePath);
+    }
+
+    private SourceScanner scanner;
+
+    @Override
+    public void includeTree(Path sourceDirectory) throws IOException {
+        scanner.includeTree(sourceDirectory);
+    }
+
+    public void includeTree(Path sourceDirectory, ParsingMode parsingMode) throws IOException {
+        scanner.includeTree(sourceDirectory, parsingMode);
+    }
+
+    @Override
+    public void includeSource(Source source) {
+        scanner.includeSource(source);
+    }
+
+    @Override
+    public void forget(String sourceId) {
+        scanner.forget(sourceId);
+    }
+
+    @Override
+    public Set<String> update(Collection<Path> changedFiles) {
+        return scanner.update(changedFiles);
+    }
+
+    @Override
+    public Set<String> sourceIds() {
+        return scanner.dependencyIndex().sourceIds();
+    }
+
+    public long skippedFiles() {
+        return scanner.skippedFiles();
+    }
+
+    public PipelineMetrics metrics() {
+        return scanner.metrics();
+    }
+
+    public SourceModel buildSourceModel() {
+        return sourceModelVisitor
+                .orElseThrow(() -> new IllegalStateException("Scanner was not built with source model"))
+                .buildModel();
+    }
+
+    private Optional<SourceModelBuilderVisitor> sourceModelVisitor = Optional.empty();
+
+    public ValidationModel buildValidationModel() {
+        return validationModelVisitor
+                .orElseThrow(() -> new IllegalStateException("Scanner was not built with validation model"))
+                .buildModel();
+    }
+
+    private Optional<ValidationModelBuilderVisitor> validationModelVisitor = Optional.empty();
+
+    public static class Builder {
+
+        private MultiVisitorScanner multiVisitorScanner = new MultiVisitorScanner();
+
+        public MultiVisitorScanner build() {
+            requireNonNull(classResolver);
+            requireNonNull(configuration);
+            if(visitors.isEmpty()) {
+                throw new IllegalStateException("At least one visitor is required");
+            }
+
+            configuration.packageIndex().ifPresent(classResolver::packageIndex);
+            var typeResolvingVisitorBuilder = new TypeResolvingCompilationUnitVisitor.Builder()
+                    .withClassResolver(classResolver)
+                    .withSourceClassResolution(configuration.sourceClassResolution())
+                    .withMetrics(configuration.metrics());
+            visitors.forEach(typeResolvingVisitorBuilder::withVisitor);
+            multiVisitorScanner.scanner = new SourceScanner(typeResolvingVisitorBuilder.build(), configuration);
+            return multiVisitorScanner;
+        }
+
+        public Builder classResolver(ClassResolver classResolver) {
+            this.classResolver = classResolver;
+            return this;
+        }
+
+        private ClassResolver classResolver = new ClassLoaderClassResolver();
+
+        public Builder configuration(ScannerConfiguration configuration) {
+            this.configuration = configuration;
+            return this;
+        }
+
+        private ScannerConfiguration configuration = ScannerConfiguration.defaultConfiguration();
+
+        public Builder withSourceModel() {
+            if(multiVisitorScanner.sourceModelVisitor.isEmpty()) {
+                var visitor = new SourceModelBuilderVisitor();
+                multiVisitorScanner.sourceModelVisitor = Optional.of(visitor);
+                visitors.add(visitor);
+            }
+            return this;
+        }
+
+        public Builder withValidationModel() {
+            if(multiVisitorScanner.validationModelVisitor.isEmpty()) {
+                var visitor = new ValidationModelBuilderVisitor();
+                multiVisitorScanner.validationModelVisitor = Optional.of(visitor);
+                visitors.add(visitor);
+            }
+            return this;
+        }
+
+        public Builder withVisitor(ResolvedCompilationUnitVisitor visitor) {
+            requireNonNull(visitor);
+            visitors.add(visitor);
+            return this;
+        }
+
+        private List<ResolvedCompilationUnitVisitor> visitors = new ArrayList<>();
+    }
+
+    private MultiVisitorScanner() {
+
+    }
+}
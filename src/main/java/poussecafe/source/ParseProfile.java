@@ -0,0 +1,6 @@
+package poussecafe.source;
+
+public enum ParseProfile {
+    FULL,
+    SIGNATURES_ONLY
+}
@@ -0,0 +1,7 @@
+package poussecafe.source;
+
+public enum ParsingMode {
+    SINGLE_UNIT,
+    BATCH,
+    BINDINGS
+}
@@ -2,34 +2,129 @@ package poussecafe.source;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.ASTParser;
 
+import static java.util.Objects.requireNonNull;
+
 @SuppressWarnings("serial")
 public class PathSource extends Source implements Serializable {
 
     @Override
     public void configure(ASTParser parser) {
-        parser.setSource(readAllChars().toCharArray());
+        parser.setSource(readAllChars());
+        parser.setCompilerOptions(compilerOptions());
+    }
+
+    public static Map<String, String> compilerOptions() {
         var options = JavaCore.getOptions(); // NOSONAR
         JavaCore.setComplianceOptions(JavaCore.VERSION_11, options);
-        parser.setCompilerOptions(options);
+        return options;
     }
 
-    private String readAllChars() {
+    private char[] readAllChars() {
         try {
-            return new String(Files.readAllBytes(path));
+            long start = System.nanoTime();
+            var bytes = readAllBytes();
+            int length = bytes.remaining();
+            var chars = decode(bytes);
+            metrics().ifPresent(metrics -> metrics.recordRead(id(), length, System.nanoTime() - start));
+            return chars;
         } catch (IOException e) {
             throw new IllegalArgumentException("Unable to read path content", e);
         }
     }
 
+    ByteBuffer readAllBytes() throws IOException {
+        var path = path();
+        if(path.getFileSystem() != FileSystems.getDefault()) {
+            return ByteBuffer.wrap(Files.readAllBytes(path));
+        }
+
+        try(var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if(size > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + path);
+            } else if(size >= MAPPED_READ_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                var bytes = ByteBuffer.allocate((int) size);
+                while(bytes.hasRemaining()) {
+                    if(channel.read(bytes) == -1) {
+                        break;
+                    }
+                }
+                return bytes.flip();
+            }
+        }
+    }
+
+    private static final long MAPPED_READ_THRESHOLD = 1024L * 1024L;
+
+    private char[] decode(ByteBuffer bytes) throws CharacterCodingException {
+        var decoder = charset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        var chars = new char[(int) Math.ceil(bytes.remaining() * (double) decoder.maxCharsPerByte())];
+        var charBuffer = CharBuffer.wrap(chars);
+        var result = decoder.decode(bytes, charBuffer, true);
+        if(!result.isUnderflow()) {
+            result.throwException();
+        }
+        result = decoder.flush(charBuffer);
+        if(!result.isUnderflow()) {
+            result.throwException();
+        }
+
+        int length = charBuffer.position();
+        if(length == chars.length) {
+            return chars;
+        } else {
+            return Arrays.copyOf(chars, length);
+        }
+    }
+
     public PathSource(Path path) {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    public PathSource(Path path, Charset charset) {
         super(path.toString());
         this.path = path;
+
+        requireNonNull(charset);
+        charsetName = charset.name();
+    }
+
+    public Path path() {
+        if(path == null) {
+            path = Path.of(id());
+        }
+        return path;
     }
 
     private transient Path path;
+
+    public Charset charset() {
+        if(charsetName == null) {
+            return StandardCharsets.UTF_8;
+        } else {
+            return Charset.forName(charsetName);
+        }
+    }
+
+    private String charsetName;
 }
@@ -0,0 +1,232 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Accepts source files whose top-level declarations may be classified by the model visitors: files referring to
+ * Pousse-Café, declaring an enum or declaring a type with a non-JDK supertype. Only package, import and top-level type
+ * declarations are kept while reading, type bodies being skipped because nested types are visited only when their
+ * enclosing type is classified.
+ */
+public class PousseCafeSourceFilter implements SourceFilter {
+
+    @Override
+    public boolean accepts(Path sourceFile) throws IOException {
+        var content = topLevelDeclarations(sourceFile);
+        return content.contains(POUSSECAFE)
+                || nextKeyword(content, "enum", 0) != -1
+                || hasCandidateSuperType(content);
+    }
+
+    private static final String POUSSECAFE = "poussecafe";
+
+    private String topLevelDeclarations(Path sourceFile) throws IOException {
+        var declarations = new StringBuilder();
+        try(var reader = new PushbackReader(Files.newBufferedReader(sourceFile, StandardCharsets.ISO_8859_1), 2)) {
+            int braceDepth = 0;
+            int parenthesisDepth = 0;
+            int c = reader.read();
+            while(c != -1) {
+                if(c == '/' && skipComment(reader)) {
+                    c = ' ';
+                } else if(c == '"' || c == '\'') {
+                    skipLiteral(reader, c);
+                    c = ' ';
+                } else if(braceDepth == 0 && c == '(') {
+                    ++parenthesisDepth;
+                } else if(braceDepth == 0 && c == ')') {
+                    --parenthesisDepth;
+                } else if(c == '{' && parenthesisDepth == 0) {
+                    ++braceDepth;
+                } else if(c == '}' && parenthesisDepth == 0) {
+                    --braceDepth;
+                    c = ';';
+                }
+                if(braceDepth == 0) {
+                    declarations.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+        return declarations.toString();
+    }
+
+    private boolean skipComment(PushbackReader reader) throws IOException {
+        int next = reader.read();
+        if(next == '/') {
+            int c = reader.read();
+            while(c != -1 && c != '\n') {
+                c = reader.read();
+            }
+            return true;
+        } else if(next == '*') {
+            int previous = -1;
+            int c = reader.read();
+            while(c != -1 && !(previous == '*' && c == '/')) {
+                previous = c;
+                c = reader.read();
+            }
+            return true;
+        } else {
+            if(next != -1) {
+                reader.unread(next);
+            }
+            return false;
+        }
+    }
+
+    private void skipLiteral(PushbackReader reader, int delimiter) throws IOException {
+        if(delimiter == '"' && isTextBlockStart(reader)) {
+            int quotes = 0;
+            int c = reader.read();
+            while(c != -1) {
+                if(c == '\\') {
+                    reader.read();
+                    quotes = 0;
+                } else if(c == '"') {
+                    ++quotes;
+                    if(quotes == 3) {
+                        return;
+                    }
+                } else {
+                    quotes = 0;
+                }
+                c = reader.read();
+            }
+        } else {
+            int c = reader.read();
+            while(c != -1 && c != delimiter && c != '\n') {
+                if(c == '\\') {
+                    reader.read();
+                }
+                c = reader.read();
+            }
+        }
+    }
+
+    private boolean isTextBlockStart(PushbackReader reader) throws IOException {
+        int second = reader.read();
+        if(second != '"') {
+            if(second != -1) {
+                reader.unread(second);
+            }
+            return false;
+        }
+        int third = reader.read();
+        if(third == '"') {
+            return true;
+        }
+        if(third != -1) {
+            reader.unread(third);
+        }
+        reader.unread(second);
+        return false;
+    }
+
+    private boolean hasCandidateSuperType(String content) {
+        var imports = explicitImports(content);
+        return hasCandidateSuperType(content, "extends", imports)
+                || hasCandidateSuperType(content, "implements", imports);
+    }
+
+    private Map<String, String> explicitImports(String content) {
+        var imports = new HashMap<String, String>();
+        int importStart = nextKeyword(content, "import", 0);
+        while(importStart != -1) {
+            int importEnd = content.indexOf(';', importStart);
+            if(importEnd == -1) {
+                break;
+            }
+            var importedName = content.substring(importStart + "import".length(), importEnd).strip();
+            if(!importedName.startsWith("static") && !importedName.endsWith("*")) {
+                imports.put(importedName.substring(importedName.lastIndexOf('.') + 1), importedName);
+            }
+            importStart = nextKeyword(content, "import", importEnd);
+        }
+        return imports;
+    }
+
+    private int nextKeyword(String content, String keyword, int fromIndex) {
+        int index = content.indexOf(keyword, fromIndex);
+        while(index != -1) {
+            int end = index + keyword.length();
+            if((index == 0 || !Character.isJavaIdentifierPart(content.charAt(index - 1)))
+                    && (end == content.length() || !Character.isJavaIdentifierPart(content.charAt(end)))) {
+                return index;
+            }
+            index = content.indexOf(keyword, end);
+        }
+        return -1;
+    }
+
+    private boolean hasCandidateSuperType(String content, String keyword, Map<String, String> imports) {
+        int keywordStart = nextKeyword(content, keyword, 0);
+        while(keywordStart != -1) {
+            int position = keywordStart + keyword.length();
+            boolean moreTypes = true;
+            while(moreTypes) {
+                position = skipWhitespace(content, position);
+                int nameEnd = qualifiedNameEnd(content, position);
+                if(isCandidateSuperType(content.substring(position, nameEnd), imports)) {
+                    return true;
+                }
+                position = skipWhitespace(content, skipTypeArguments(content, skipWhitespace(content, nameEnd)));
+                moreTypes = position < content.length() && content.charAt(position) == ',';
+                ++position;
+            }
+            keywordStart = nextKeyword(content, keyword, keywordStart + keyword.length());
+        }
+        return false;
+    }
+
+    private int skipWhitespace(String content, int position) {
+        while(position < content.length() && Character.isWhitespace(content.charAt(position))) {
+            ++position;
+        }
+        return position;
+    }
+
+    private int qualifiedNameEnd(String content, int position) {
+        while(position < content.length()
+                && (Character.isJavaIdentifierPart(content.charAt(position)) || content.charAt(position) == '.')) {
+            ++position;
+        }
+        return position;
+    }
+
+    private int skipTypeArguments(String content, int position) {
+        if(position >= content.length() || content.charAt(position) != '<') {
+            return position;
+        }
+        int depth = 0;
+        while(position < content.length()) {
+            char c = content.charAt(position++);
+            if(c == '<') {
+                ++depth;
+            } else if(c == '>' && --depth == 0) {
+                break;
+            }
+        }
+        return position;
+    }
+
+    private boolean isCandidateSuperType(String typeName, Map<String, String> imports) {
+        if(typeName.isEmpty()) {
+            return true;
+        }
+        var firstSegment = typeName.split("\\.", 2)[0];
+        var qualifiedName = imports.getOrDefault(firstSegment, typeName);
+        return !isJdkType(qualifiedName);
+    }
+
+    private boolean isJdkType(String qualifiedName) {
+        return qualifiedName.startsWith("java.")
+                || qualifiedName.startsWith("javax.");
+    }
+}
@@ -0,0 +1,198 @@
+package poussecafe.source;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import poussecafe.source.analysis.ClassPathPackageIndex;
+import poussecafe.source.metrics.PipelineMetrics;
+
+import static java.util.Objects.requireNonNull;
+
+public class ScannerConfiguration {
+
+    public boolean parallelScanning() {
+        return parallelScanning;
+    }
+
+    private boolean parallelScanning;
+
+    public int workers() {
+        return workers;
+    }
+
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    public ParsingMode parsingMode() {
+        return parsingMode;
+    }
+
+    private ParsingMode parsingMode = ParsingMode.SINGLE_UNIT;
+
+    public ParseProfile parseProfile() {
+        return parseProfile;
+    }
+
+    private ParseProfile parseProfile = ParseProfile.SIGNATURES_ONLY;
+
+    public SourceFilter sourceFilter() {
+        return sourceFilter;
+    }
+
+    private SourceFilter sourceFilter = new AcceptAllSourceFilter();
+
+    public Charset charset() {
+        return charset;
+    }
+
+    private Charset charset = StandardCharsets.UTF_8;
+
+    public CompilationUnitCache compilationUnitCache() {
+        return compilationUnitCache;
+    }
+
+    private CompilationUnitCache compilationUnitCache = CompilationUnitCache.sharedCache();
+
+    public boolean detachCompilationUnits() {
+        return detachCompilationUnits;
+    }
+
+    private boolean detachCompilationUnits;
+
+    public Optional<AnalysisCache> analysisCache() {
+        return Optional.ofNullable(analysisCache);
+    }
+
+    private AnalysisCache analysisCache;
+
+    public boolean sourceClassResolution() {
+        return sourceClassResolution;
+    }
+
+    private boolean sourceClassResolution;
+
+    public Optional<ClassPathPackageIndex> packageIndex() {
+        return Optional.ofNullable(packageIndex);
+    }
+
+    private ClassPathPackageIndex packageIndex;
+
+    public PipelineMetrics metrics() {
+        return metrics;
+    }
+
+    private PipelineMetrics metrics = new PipelineMetrics();
+
+    public List<Path> classPath() {
+        return Collections.unmodifiableList(classPath);
+    }
+
+    private List<Path> classPath = runtimeClassPath();
+
+    private static List<Path> runtimeClassPath() {
+        var classPath = new ArrayList<Path>();
+        var runtimeClassPath = System.getProperty("java.class.path", "");
+        for(String entry : runtimeClassPath.split(File.pathSeparator)) {
+            if(!entry.isEmpty()) {
+                classPath.add(Path.of(entry));
+            }
+        }
+        return classPath;
+    }
+
+    public static ScannerConfiguration defaultConfiguration() {
+        return new Builder().build();
+    }
+
+    public static class Builder {
+
+        private ScannerConfiguration configuration = new ScannerConfiguration();
+
+        public ScannerConfiguration build() {
+            if(configuration.workers < 1) {
+                throw new IllegalStateException("At least one worker is required");
+            }
+            requireNonNull(configuration.parsingMode);
+            requireNonNull(configuration.parseProfile);
+            requireNonNull(configuration.sourceFilter);
+            requireNonNull(configuration.charset);
+            requireNonNull(configuration.compilationUnitCache);
+            requireNonNull(configuration.metrics);
+            requireNonNull(configuration.classPath);
+            return configuration;
+        }
+
+        public Builder parallelScanning(boolean parallelScanning) {
+            configuration.parallelScanning = parallelScanning;
+            return this;
+        }
+
+        public Builder workers(int workers) {
+            configuration.workers = workers;
+            return this;
+        }
+
+        public Builder parsingMode(ParsingMode parsingMode) {
+            configuration.parsingMode = parsingMode;
+            return this;
+        }
+
+        public Builder parseProfile(ParseProfile parseProfile) {
+            configuration.parseProfile = parseProfile;
+            return this;
+        }
+
+        public Builder sourceFilter(SourceFilter sourceFilter) {
+            configuration.sourceFilter = sourceFilter;
+            return this;
+        }
+
+        public Builder charset(Charset charset) {
+            configuration.charset = charset;
+            return this;
+        }
+
+        public Builder compilationUnitCache(CompilationUnitCache compilationUnitCache) {
+            configuration.compilationUnitCache = compilationUnitCache;
+            return this;
+        }
+
+        public Builder detachCompilationUnits(boolean detachCompilationUnits) {
+            configuration.detachCompilationUnits = detachCompilationUnits;
+            return this;
+        }
+
+        public Builder analysisCache(AnalysisCache analysisCache) {
+            configuration.analysisCache = analysisCache;
+            return this;
+        }
+
+        public Builder sourceClassResolution(boolean sourceClassResolution) {
+            configuration.sourceClassResolution = sourceClassResolution;
+            return this;
+        }
+
+        public Builder packageIndex(ClassPathPackageIndex packageIndex) {
+            configuration.packageIndex = packageIndex;
+            return this;
+        }
+
+        public Builder metrics(PipelineMetrics metrics) {
+            configuration.metrics = metrics;
+            return this;
+        }
+
+        public Builder classPath(List<Path> classPath) {
+            configuration.classPath = new ArrayList<>(classPath);
+            return this;
+        }
+    }
+
+    private ScannerConfiguration() {
+
+    }
+}
@@ -2,12 +2,15 @@ package poussecafe.source;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
 import poussecafe.source.analysis.ClassLoaderClassResolver;
 import poussecafe.source.analysis.ClassResolver;
 import poussecafe.source.analysis.ResolvedCompilationUnitVisitor;
 import poussecafe.source.analysis.TypeResolvingCompilationUnitVisitor;
+import poussecafe.source.metrics.PipelineMetrics;
 
-public abstract class SingleVisitorScanner implements SourceConsumer {
+public abstract class SingleVisitorScanner implements IncrementalSourceConsumer {
 
     @Override
     public void includeFile(Path sourceFilePath) throws IOException {
@@ -21,20 +24,54 @@ public abstract class SingleVisitorScanner implements SourceConsumer {
         scanner.includeTree(sourceDirectory);
     }
 
+    public void includeTree(Path sourceDirectory, ParsingMode parsingMode) throws IOException {
+        scanner.includeTree(sourceDirectory, parsingMode);
+    }
+
     @Override
     public void includeSource(Source source) {
         scanner.includeSource(source);
     }
 
+    @Override
+    public void forget(String sourceId) {
+        scanner.forget(sourceId);
+    }
+
+    @Override
+    public Set<String> update(Collection<Path> changedFiles) {
+        return scanner.update(changedFiles);
+    }
+
+    @Override
+    public Set<String> sourceIds() {
+        return scanner.dependencyIndex().sourceIds();
+    }
+
+    public long skippedFiles() {
+        return scanner.skippedFiles();
+    }
+
+    public PipelineMetrics metrics() {
+        return scanner.metrics();
+    }
+
     protected SingleVisitorScanner() {
         this(new ClassLoaderClassResolver());
     }
 
     protected SingleVisitorScanner(ClassResolver classResolver) {
+        this(classResolver, ScannerConfiguration.defaultConfiguration());
+    }
+
+    protected SingleVisitorScanner(ClassResolver classResolver, ScannerConfiguration configuration) {
+        configuration.packageIndex().ifPresent(classResolver::packageIndex);
         scanner = new SourceScanner(new TypeResolvingCompilationUnitVisitor.Builder()
                 .withClassResolver(classResolver)
+                .withSourceClassResolution(configuration.sourceClassResolution())
                 .withVisitor(visitor())
-                .build());
+                .withMetrics(configuration.metrics())
+                .build(), configuration);
     }
 
     protected abstract ResolvedCompilationUnitVisitor visitor();
@@ -1,11 +1,14 @@
 package poussecafe.source;
 
 import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.util.Optional;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import poussecafe.source.metrics.PipelineMetrics;
 
 import static java.util.Objects.requireNonNull;
 import static poussecafe.util.Equality.referenceEquals;
@@ -19,16 +22,82 @@ public abstract class Source implements Serializable {
 
     private String id;
 
-    public CompilationUnit compilationUnit() {
-        if(compilationUnit == null) {
-            ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-            configure(parser);
-            compilationUnit = (CompilationUnit) parser.createAST(null);
+    public synchronized CompilationUnit compilationUnit() {
+        CompilationUnit unit = null;
+        if(compilationUnit != null) {
+            unit = compilationUnit.get();
         }
-        return compilationUnit;
+        if(unit == null) {
+            long start = System.nanoTime();
+            unit = parse(parseProfile);
+            if(metrics != null) {
+                metrics.recordParse(id, System.nanoTime() - start);
+            }
+            compilationUnit = new SoftReference<>(unit);
+        }
+        compilationUnitCache().retain(this, unit);
+        return unit;
+    }
+
+    public CompilationUnit parse(ParseProfile parseProfile) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        configure(parser);
+        parser.setIgnoreMethodBodies(parseProfile == ParseProfile.SIGNATURES_ONLY);
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    public ParseProfile parseProfile() {
+        return parseProfile;
+    }
+
+    public void parseProfile(ParseProfile parseProfile) {
+        requireNonNull(parseProfile);
+        this.parseProfile = parseProfile;
+    }
+
+    private transient ParseProfile parseProfile = ParseProfile.FULL;
+
+    private transient SoftReference<CompilationUnit> compilationUnit;
+
+    synchronized void compilationUnit(CompilationUnit compilationUnit) {
+        this.compilationUnit = new SoftReference<>(compilationUnit);
+        compilationUnitCache().retain(this, compilationUnit);
+    }
+
+    public synchronized void detach() {
+        compilationUnit = null;
+        compilationUnitCache().release(this);
+    }
+
+    public CompilationUnitCache compilationUnitCache() {
+        if(compilationUnitCache == null) {
+            return CompilationUnitCache.sharedCache();
+        } else {
+            return compilationUnitCache;
+        }
+    }
+
+    public synchronized void compilationUnitCache(CompilationUnitCache compilationUnitCache) {
+        requireNonNull(compilationUnitCache);
+        if(compilationUnitCache == compilationUnitCache()) {
+            this.compilationUnitCache = compilationUnitCache;
+            return;
+        }
+        compilationUnitCache().release(this);
+        this.compilationUnitCache = compilationUnitCache;
+    }
+
+    private transient CompilationUnitCache compilationUnitCache;
+
+    public Optional<PipelineMetrics> metrics() {
+        return Optional.ofNullable(metrics);
+    }
+
+    public void metrics(PipelineMetrics metrics) {
+        this.metrics = metrics;
     }
 
-    private transient CompilationUnit compilationUnit;
+    private transient PipelineMetrics metrics;
 
     protected abstract void configure(ASTParser parser);
 
@@ -0,0 +1,32 @@
+package poussecafe.source;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+@SuppressWarnings("serial")
+public class SourceDependencies implements Serializable {
+
+    public Set<String> declaredClassNames() {
+        return Collections.unmodifiableSet(declaredClassNames);
+    }
+
+    private HashSet<String> declaredClassNames;
+
+    public Set<String> referencedClassNames() {
+        return Collections.unmodifiableSet(referencedClassNames);
+    }
+
+    private HashSet<String> referencedClassNames;
+
+    public SourceDependencies(Set<String> declaredClassNames, Set<String> referencedClassNames) {
+        requireNonNull(declaredClassNames);
+        this.declaredClassNames = new HashSet<>(declaredClassNames);
+
+        requireNonNull(referencedClassNames);
+        this.referencedClassNames = new HashSet<>(referencedClassNames);
+    }
+}
@@ -0,0 +1,107 @@
+package poussecafe.source;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class SourceDependencyIndex {
+
+    public synchronized void register(Source source, SourceDependencies dependencies) {
+        forget(source.id());
+        sources.put(source.id(), source);
+        dependenciesBySourceId.put(source.id(), dependencies);
+        for(String declaredClassName : dependencies.declaredClassNames()) {
+            declaringSourceIds.put(declaredClassName, source.id());
+        }
+        for(String referencedClassName : dependencies.referencedClassNames()) {
+            dependentSourceIds.computeIfAbsent(referencedClassName, key -> new HashSet<>()).add(source.id());
+        }
+    }
+
+    private Map<String, Source> sources = new HashMap<>();
+
+    private Map<String, SourceDependencies> dependenciesBySourceId = new HashMap<>();
+
+    private Map<String, Set<String>> dependentSourceIds = new HashMap<>();
+
+    private Map<String, String> declaringSourceIds = new HashMap<>();
+
+    public synchronized void forget(String sourceId) {
+        sources.remove(sourceId);
+        var dependencies = dependenciesBySourceId.remove(sourceId);
+        if(dependencies != null) {
+            for(String declaredClassName : dependencies.declaredClassNames()) {
+                declaringSourceIds.remove(declaredClassName, sourceId);
+            }
+            for(String referencedClassName : dependencies.referencedClassNames()) {
+                var dependents = dependentSourceIds.get(referencedClassName);
+                if(dependents != null) {
+                    dependents.remove(sourceId);
+                    if(dependents.isEmpty()) {
+                        dependentSourceIds.remove(referencedClassName);
+                    }
+                }
+            }
+        }
+    }
+
+    public synchronized Optional<SourceDependencies> dependencies(String sourceId) {
+        return Optional.ofNullable(dependenciesBySourceId.get(sourceId));
+    }
+
+    public synchronized Set<String> sourceIds() {
+        return new HashSet<>(sources.keySet());
+    }
+
+    public synchronized Optional<Source> source(String sourceId) {
+        return Optional.ofNullable(sources.get(sourceId));
+    }
+
+    public synchronized Set<String> declaredClassNames(String sourceId) {
+        var dependencies = dependenciesBySourceId.get(sourceId);
+        if(dependencies == null) {
+            return Collections.emptySet();
+        } else {
+            return dependencies.declaredClassNames();
+        }
+    }
+
+    public synchronized Set<String> declaringSourceIds(Collection<String> classNames) {
+        var sourceIds = new HashSet<String>();
+        for(String className : classNames) {
+            var sourceId = declaringSourceIds.get(className);
+            if(sourceId != null) {
+                sourceIds.add(sourceId);
+            }
+        }
+        return sourceIds;
+    }
+
+    public synchronized Set<String> directDependents(Collection<String> classNames) {
+        var dependents = new HashSet<String>();
+        for(String className : classNames) {
+            dependents.addAll(dependentSourceIds.getOrDefault(className, Collections.emptySet()));
+        }
+        return dependents;
+    }
+
+    public synchronized Set<String> dependents(String sourceId) {
+        var dependents = new HashSet<String>();
+        var pendingSourceIds = new ArrayDeque<String>();
+        pendingSourceIds.add(sourceId);
+        while(!pendingSourceIds.isEmpty()) {
+            var nextSourceId = pendingSourceIds.poll();
+            for(String dependent : directDependents(declaredClassNames(nextSourceId))) {
+                if(!dependent.equals(sourceId) && dependents.add(dependent)) {
+                    pendingSourceIds.add(dependent);
+                }
+            }
+        }
+        return dependents;
+    }
+}
@@ -0,0 +1,10 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@FunctionalInterface
+public interface SourceFilter {
+
+    boolean accepts(Path sourceFile) throws IOException;
+}
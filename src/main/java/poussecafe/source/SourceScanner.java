@@ -1,29 +1,145 @@
 package poussecafe.source;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
 import org.eclipse.jdt.core.dom.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import poussecafe.source.analysis.TypeResolvingCompilationUnitVisitor;
+import poussecafe.source.metrics.PipelineMetrics;
+
+import static java.util.Objects.requireNonNull;
 
 public class SourceScanner implements SourceConsumer {
 
     @Override
     public void includeFile(Path sourceFilePath) throws IOException {
-        includeSource(new PathSource(sourceFilePath));
+        includeSource(newPathSource(sourceFilePath));
+    }
+
+    private PathSource newPathSource(Path sourceFilePath) {
+        var source = new PathSource(sourceFilePath, configuration.charset());
+        source.parseProfile(configuration.parseProfile());
+        source.compilationUnitCache(configuration.compilationUnitCache());
+        source.metrics(configuration.metrics());
+        return source;
     }
 
     @Override
     public void includeSource(Source source) {
+        includeKeyedSource(new KeyedSource(source, analysisCacheKey(source)));
+    }
+
+    private void includeKeyedSource(KeyedSource keyedSource) {
+        includeSource(keyedSource.source, keyedSource.cacheKey, true);
+        if(!scanningTree) {
+            storePendingAnalyses();
+        }
+    }
+
+    private boolean scanningTree;
+
+    private static class KeyedSource {
+
+        KeyedSource(Source source, Optional<String> cacheKey) {
+            this.source = source;
+            this.cacheKey = cacheKey;
+        }
+
+        private Source source;
+
+        private Optional<String> cacheKey;
+    }
+
+    private void includeSource(Source source, Optional<String> cacheKey, boolean mayReplayCachedContributions) {
         String sourceId = source.id();
         forget(sourceId);
+        source.parseProfile(configuration.parseProfile());
+        source.compilationUnitCache(configuration.compilationUnitCache());
+        source.metrics(configuration.metrics());
+        try {
+            if(cacheKey.isEmpty()
+                    || !mayReplayCachedContributions
+                    || !replayCachedContributions(source, cacheKey.get())) {
+                visit(source, cacheKey);
+            }
+        } finally {
+            if(configuration.detachCompilationUnits()) {
+                source.detach();
+            }
+        }
+    }
+
+    private Optional<String> analysisCacheKey(Source source) {
+        var analysisCache = configuration.analysisCache();
+        if(analysisCache.isEmpty()
+                || !(source instanceof PathSource)
+                || !typeResolvingVisitor.hasCacheableContributions()) {
+            return Optional.empty();
+        }
+
+        try {
+            var content = ((PathSource) source).readAllBytes();
+            return Optional.of(analysisCache.get().key(analysisSignature(), source.id(), content));
+        } catch (IOException e) {
+            logger.warn("Unable to compute cache key of {}", source.id(), e);
+            return Optional.empty();
+        }
+    }
+
+    private String analysisSignature() {
+        return typeResolvingVisitor.contributorsSignature()
+                + ";" + configuration.parseProfile()
+                + ";" + typeResolvingVisitor.classResolverKind();
+    }
+
+    private boolean replayCachedContributions(Source source, String cacheKey) {
+        var analysis = configuration.analysisCache().orElseThrow().get(cacheKey);
+        configuration.metrics().recordAnalysisCacheAccess(analysis.isPresent());
+        if(analysis.isPresent()) {
+            typeResolvingVisitor.replayContributions(analysis.get().contributions());
+            dependencyIndex.register(source, analysis.get().dependencies());
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private boolean hasCachedContributions(KeyedSource keyedSource) {
+        return keyedSource.cacheKey.isPresent()
+                && configuration.analysisCache().orElseThrow().contains(keyedSource.cacheKey.get());
+    }
+
+    private void visit(Source source, Optional<String> cacheKey) {
+        String sourceId = source.id();
 
         CompilationUnit unit = source.compilationUnit();
         if(unit.getMessages().length > 0) {
@@ -34,49 +150,428 @@ public class SourceScanner implements SourceConsumer {
             }
         } else if(unit.types().size() != 1) {
             logger.debug("Skipping {} because it does not contain a single type", sourceId);
+        } else if(cacheKey.isPresent()) {
+            List<Serializable> contributions;
+            typeResolvingVisitor.startContributions();
+            try {
+                visitResolvedUnit(source);
+            } finally {
+                contributions = typeResolvingVisitor.endContributions();
+            }
+            pendingAnalyses.add(new PendingAnalysis(source, cacheKey.get(), contributions));
         } else {
-            typeResolvingVisitor.visit(source);
-            if(!typeResolvingVisitor.errors().isEmpty()) {
-                logger.error("Visitor errors:");
-                for(Exception e : typeResolvingVisitor.errors()) {
-                    logger.error("-", e);
-                }
-                throw new IllegalStateException("Error while scanning source " + sourceId);
+            visitResolvedUnit(source);
+        }
+    }
+
+    private void visitResolvedUnit(Source source) {
+        typeResolvingVisitor.visit(source);
+        if(!typeResolvingVisitor.errors().isEmpty()) {
+            logger.error("Visitor errors:");
+            for(Exception e : typeResolvingVisitor.errors()) {
+                logger.error("-", e);
+            }
+            throw new IllegalStateException("Error while scanning source " + source.id());
+        }
+        dependencyIndex.register(source, new SourceDependencies(typeResolvingVisitor.declaredClassNames(),
+                typeResolvingVisitor.referencedClassNames()));
+    }
+
+    private List<PendingAnalysis> pendingAnalyses = new ArrayList<>();
+
+    private static class PendingAnalysis {
+
+        PendingAnalysis(Source source, String cacheKey, List<Serializable> contributions) {
+            this.source = source;
+            this.cacheKey = cacheKey;
+            this.contributions = contributions;
+        }
+
+        private Source source;
+
+        private String cacheKey;
+
+        private List<Serializable> contributions;
+    }
+
+    /**
+     * Contributions are stored once the dependency index covers all scanned sources, each entry recording the content
+     * hashes of the sources declaring the classes it references. Referenced classes which are not declared by a
+     * scanned source come from the class path and are covered by the cache fingerprint.
+     */
+    private void storePendingAnalyses() {
+        for(PendingAnalysis pendingAnalysis : pendingAnalyses) {
+            var sourceId = pendingAnalysis.source.id();
+            var dependencies = dependencyIndex.dependencies(sourceId);
+            if(dependencies.isPresent()) {
+                dependencyHashes(sourceId, dependencies.get())
+                    .ifPresent(dependencyHashes -> configuration.analysisCache().orElseThrow()
+                            .put(pendingAnalysis.cacheKey, new CachedAnalysis(pendingAnalysis.contributions,
+                                    dependencies.get(), dependencyHashes)));
+            }
+        }
+        pendingAnalyses.clear();
+    }
+
+    private Optional<Map<String, String>> dependencyHashes(String sourceId, SourceDependencies dependencies) {
+        var analysisCache = configuration.analysisCache().orElseThrow();
+        var dependencyHashes = new HashMap<String, String>();
+        for(String dependencySourceId : dependencyIndex.declaringSourceIds(dependencies.referencedClassNames())) {
+            if(dependencySourceId.equals(sourceId)) {
+                continue;
+            }
+            var dependencySource = dependencyIndex.source(dependencySourceId);
+            if(dependencySource.isEmpty() || !(dependencySource.get() instanceof PathSource)) {
+                logger.debug("Not caching {} because it depends on {}", sourceId, dependencySourceId);
+                return Optional.empty();
+            }
+            var dependencyPath = ((PathSource) dependencySource.get()).path().toAbsolutePath();
+            if(dependencyPath.getFileSystem() != FileSystems.getDefault()) {
+                logger.debug("Not caching {} because it depends on archived source {}", sourceId, dependencyPath);
+                return Optional.empty();
+            }
+            try {
+                dependencyHashes.put(dependencyPath.toString(), analysisCache.contentHash(dependencyPath));
+            } catch (IOException e) {
+                logger.warn("Not caching {} because {} could not be read", sourceId, dependencyPath, e);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(dependencyHashes);
+    }
+
+    private SourceDependencyIndex dependencyIndex = new SourceDependencyIndex();
+
+    public SourceDependencyIndex dependencyIndex() {
+        return dependencyIndex;
+    }
+
+    public Set<String> update(Collection<Path> changedFiles) {
+        long startTime = System.currentTimeMillis();
+        var updatedSourceIds = new HashSet<String>();
+        var pendingSources = new ArrayDeque<Source>();
+        var dependentSourceIds = new HashSet<String>();
+        var existingFiles = new ArrayList<Path>();
+        var deletedFiles = new ArrayList<Path>();
+        var refreshedClassNames = new HashSet<String>();
+        for(Path changedFile : changedFiles) {
+            if(Files.exists(changedFile)) {
+                var source = newPathSource(changedFile);
+                refreshedClassNames.addAll(dependencyIndex.declaredClassNames(source.id()));
+                refreshedClassNames.addAll(TypeResolvingCompilationUnitVisitor.declaredClassNames(source.compilationUnit()));
+                pendingSources.add(source);
+                existingFiles.add(changedFile);
+            } else {
+                deletedFiles.add(changedFile);
+            }
+        }
+        typeResolvingVisitor.includeSourceSymbols(existingFiles, configuration.charset());
+        for(Path deletedFile : deletedFiles) {
+            var sourceId = deletedFile.toString();
+            var declaredClassNames = dependencyIndex.declaredClassNames(sourceId);
+            refreshedClassNames.addAll(declaredClassNames);
+            forget(sourceId);
+            updatedSourceIds.add(sourceId);
+            addDependents(declaredClassNames, updatedSourceIds, pendingSources, dependentSourceIds);
+        }
+        typeResolvingVisitor.refreshClassResolution(refreshedClassNames);
+
+        while(!pendingSources.isEmpty()) {
+            var source = pendingSources.poll();
+            if(updatedSourceIds.add(source.id())) {
+                var declaredClassNames = new HashSet<>(dependencyIndex.declaredClassNames(source.id()));
+                includeSource(source, analysisCacheKey(source), !dependentSourceIds.contains(source.id()));
+                declaredClassNames.addAll(dependencyIndex.declaredClassNames(source.id()));
+                addDependents(declaredClassNames, updatedSourceIds, pendingSources, dependentSourceIds);
+            }
+        }
+
+        storePendingAnalyses();
+
+        long endTime = System.currentTimeMillis();
+        if(logger.isDebugEnabled()) {
+            logger.debug("Updated {} sources for {} changed files in {} ms", updatedSourceIds.size(),
+                    changedFiles.size(), (endTime - startTime));
+        }
+        return updatedSourceIds;
+    }
+
+    private void addDependents(Set<String> classNames, Set<String> updatedSourceIds, Deque<Source> pendingSources,
+            Set<String> dependentSourceIds) {
+        for(String dependentSourceId : dependencyIndex.directDependents(classNames)) {
+            if(!updatedSourceIds.contains(dependentSourceId)) {
+                dependentSourceIds.add(dependentSourceId);
+                dependencyIndex.source(dependentSourceId)
+                    .map(this::freshSource)
+                    .ifPresent(pendingSources::add);
             }
         }
     }
 
+    private Source freshSource(Source source) {
+        if(source instanceof PathSource) {
+            return newPathSource(((PathSource) source).path());
+        } else {
+            return source;
+        }
+    }
+
     public void forget(String sourceId) {
+        pendingAnalyses.removeIf(pendingAnalysis -> pendingAnalysis.source.id().equals(sourceId));
         typeResolvingVisitor.forget(sourceId);
+        dependencyIndex.forget(sourceId);
     }
 
     private Logger logger = LoggerFactory.getLogger(getClass());
 
     @Override
     public void includeTree(Path sourceDirectory) throws IOException {
+        includeTree(sourceDirectory, configuration.parsingMode());
+    }
+
+    public void includeTree(Path sourceDirectory, ParsingMode parsingMode) throws IOException {
+        scanningTree = true;
+        try {
+            scanTree(sourceDirectory, parsingMode);
+        } finally {
+            scanningTree = false;
+            storePendingAnalyses();
+        }
+    }
+
+    private void scanTree(Path sourceDirectory, ParsingMode parsingMode) throws IOException {
+        long startTime = System.nanoTime();
+        int foundFiles;
+        int includedFiles;
         if(sourceDirectory.toFile().isDirectory()) {
-            Files.walkFileTree(sourceDirectory, new JavaSourceFileVisitor());
+            var files = javaSourceFiles(sourceDirectory);
+            typeResolvingVisitor.includeSourceSymbols(files, configuration.charset());
+            var acceptedFiles = acceptedFiles(files);
+            if(parsingMode == ParsingMode.BATCH) {
+                includeFilesInBatch(acceptedFiles, Optional.empty());
+            } else if(parsingMode == ParsingMode.BINDINGS) {
+                includeFilesInBatch(acceptedFiles, Optional.of(sourceDirectory));
+            } else {
+                includeFiles(acceptedFiles);
+            }
+            foundFiles = files.size();
+            includedFiles = acceptedFiles.size();
         } else {
             try (var fs = FileSystems.newFileSystem(sourceDirectory)) {
-                Files.walkFileTree(fs.getPath("/"), new JavaSourceFileVisitor());
+                var files = javaSourceFiles(fs.getPath("/"));
+                typeResolvingVisitor.includeSourceSymbols(files, configuration.charset());
+                var acceptedFiles = acceptedFiles(files);
+                includeFiles(acceptedFiles);
+                foundFiles = files.size();
+                includedFiles = acceptedFiles.size();
             }
         }
+        long duration = System.nanoTime() - startTime;
+        skippedFiles += foundFiles - includedFiles;
+        var metrics = configuration.metrics();
+        metrics.recordScan(sourceDirectory.toString(), includedFiles, foundFiles - includedFiles, duration);
+        var snapshot = metrics.publish();
+        if(logger.isDebugEnabled()) {
+            logger.debug("Scanned {} files of {} in {} ms, {} skipped by filter", includedFiles, sourceDirectory,
+                    TimeUnit.NANOSECONDS.toMillis(duration), (foundFiles - includedFiles));
+            logger.debug("Parsed {} units in {} ms, {} resolutions ({} hits), {} class lookups",
+                    snapshot.parsedUnits(), TimeUnit.NANOSECONDS.toMillis(snapshot.parseNanos()),
+                    snapshot.resolutionCalls(), snapshot.resolutionHits(), snapshot.classLookups());
+            configuration.analysisCache().ifPresent(cache -> logger.debug("Analysis cache: {} hits, {} misses",
+                    cache.hits(), cache.misses()));
+        }
     }
 
-    private class JavaSourceFileVisitor extends SimpleFileVisitor<Path> {
+    public PipelineMetrics metrics() {
+        return configuration.metrics();
+    }
+
+    private List<Path> acceptedFiles(List<Path> files) throws IOException {
+        var filter = configuration.sourceFilter();
+        var acceptedFiles = new ArrayList<Path>(files.size());
+        for(Path file : files) {
+            if(filter.accepts(file)) {
+                acceptedFiles.add(file);
+            } else {
+                logger.debug("Skipping {} because it cannot contribute to the model", file);
+            }
+        }
+        if(acceptedFiles.size() < files.size()) {
+            logger.warn("Source filter {} skipped {} of {} files", filter.getClass().getSimpleName(),
+                    files.size() - acceptedFiles.size(), files.size());
+        }
+        return acceptedFiles;
+    }
+
+    public long skippedFiles() {
+        return skippedFiles;
+    }
+
+    private long skippedFiles;
+
+    private List<Path> javaSourceFiles(Path root) throws IOException {
+        var visitor = new JavaSourceFileVisitor();
+        Files.walkFileTree(root, visitor);
+        return visitor.files;
+    }
+
+    private static class JavaSourceFileVisitor extends SimpleFileVisitor<Path> {
 
         @Override
         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
             if(file.toString().endsWith(".java")) {
-                includeFile(file);
+                files.add(file);
             }
             return FileVisitResult.CONTINUE;
         }
+
+        private List<Path> files = new ArrayList<>();
+    }
+
+    private void includeFiles(List<Path> files) throws IOException {
+        if(configuration.parallelScanning()) {
+            includeFilesInParallel(files);
+        } else {
+            for(Path file : files) {
+                includeFile(file);
+            }
+        }
+    }
+
+    private void includeFilesInBatch(List<Path> files, Optional<Path> bindingsSourceRoot) {
+        var sources = new LinkedHashMap<String, KeyedSource>();
+        for(Path file : files) {
+            var source = newPathSource(file);
+            var keyedSource = new KeyedSource(source, analysisCacheKey(source));
+            if(hasCachedContributions(keyedSource)) {
+                includeBatch(sources, bindingsSourceRoot);
+                sources.clear();
+                includeKeyedSource(keyedSource);
+            } else {
+                sources.put(file.toAbsolutePath().toString(), keyedSource);
+            }
+        }
+        includeBatch(sources, bindingsSourceRoot);
+    }
+
+    private void includeBatch(Map<String, KeyedSource> sources, Optional<Path> bindingsSourceRoot) {
+        if(sources.isEmpty()) {
+            return;
+        }
+
+        var parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setCompilerOptions(PathSource.compilerOptions());
+        parser.setIgnoreMethodBodies(configuration.parseProfile() == ParseProfile.SIGNATURES_ONLY);
+        if(bindingsSourceRoot.isPresent()) {
+            configureBindings(parser, bindingsSourceRoot.get());
+        }
+        var sourceFilePaths = sources.keySet().toArray(new String[sources.size()]);
+        var encodings = new String[sourceFilePaths.length];
+        Arrays.fill(encodings, configuration.charset().name());
+        var metrics = configuration.metrics();
+        try {
+            parser.createASTs(sourceFilePaths, encodings, new String[0], new FileASTRequestor() {
+                @Override
+                public void acceptAST(String sourceFilePath, CompilationUnit ast) {
+                    var keyedSource = sources.remove(sourceFilePath);
+                    metrics.recordParse(keyedSource.source.id(), System.nanoTime() - parseStart);
+                    keyedSource.source.compilationUnit(ast);
+                    includeKeyedSource(keyedSource);
+                    parseStart = System.nanoTime();
+                }
+
+                private long parseStart = System.nanoTime();
+            }, null);
+        } finally {
+            typeResolvingVisitor.endBindingsBatch();
+        }
+
+        for(String unparsedSourceFilePath : sources.keySet()) {
+            logger.warn("Skipping {} because it could not be read", unparsedSourceFilePath);
+        }
+    }
+
+    private void configureBindings(ASTParser parser, Path sourceRoot) {
+        var classPath = configuration.classPath().stream()
+                .map(entry -> entry.toAbsolutePath().toString())
+                .toArray(String[]::new);
+        var sourcePath = new String[] { sourceRoot.toAbsolutePath().toString() };
+        var sourcePathEncodings = new String[] { configuration.charset().name() };
+        parser.setEnvironment(classPath, sourcePath, sourcePathEncodings, true);
+        parser.setResolveBindings(true);
+    }
+
+    private void includeFilesInParallel(List<Path> files) {
+        var executor = Executors.newFixedThreadPool(configuration.workers(), new ParserThreadFactory());
+        try {
+            var pendingSources = new ArrayDeque<Future<KeyedSource>>();
+            var maxPendingSources = configuration.workers() * PENDING_SOURCES_PER_WORKER;
+            var filesIterator = files.iterator();
+            while(filesIterator.hasNext() || !pendingSources.isEmpty()) {
+                while(filesIterator.hasNext() && pendingSources.size() < maxPendingSources) {
+                    var source = newPathSource(filesIterator.next());
+                    pendingSources.add(executor.submit(() -> parse(source)));
+                }
+                includeKeyedSource(nextParsedSource(pendingSources));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final int PENDING_SOURCES_PER_WORKER = 4;
+
+    private KeyedSource parse(Source source) {
+        var keyedSource = new KeyedSource(source, analysisCacheKey(source));
+        if(!hasCachedContributions(keyedSource)) {
+            source.compilationUnit();
+        }
+        return keyedSource;
+    }
+
+    private KeyedSource nextParsedSource(Deque<Future<KeyedSource>> pendingSources) {
+        try {
+            return pendingSources.poll().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parsed source", e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new IllegalStateException("Unable to parse source", cause);
+            }
+        }
+    }
+
+    private static class ParserThreadFactory implements ThreadFactory {
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "source-parser-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+        private AtomicInteger threadIndex = new AtomicInteger();
     }
 
     public SourceScanner(TypeResolvingCompilationUnitVisitor typeResolvingVisitor) {
+        this(typeResolvingVisitor, ScannerConfiguration.defaultConfiguration());
+    }
+
+    public SourceScanner(TypeResolvingCompilationUnitVisitor typeResolvingVisitor,
+            ScannerConfiguration configuration) {
+        requireNonNull(typeResolvingVisitor);
         this.typeResolvingVisitor = typeResolvingVisitor;
+
+        requireNonNull(configuration);
+        this.configuration = configuration;
     }
 
     private TypeResolvingCompilationUnitVisitor typeResolvingVisitor;
+
+    private ScannerConfiguration configuration;
 }
@@ -0,0 +1,306 @@
+package poussecafe.source;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+public class SourceTreeWatcher<M> implements Closeable {
+
+    public synchronized void start() throws IOException {
+        if(watchThread != null) {
+            throw new IllegalStateException("Watcher already started");
+        }
+
+        watchService = sourceDirectory.getFileSystem().newWatchService();
+        registerTree(sourceDirectory);
+        scanner.includeTree(sourceDirectory);
+        modelListener.accept(modelSupplier.get());
+
+        watchThread = new Thread(this::watch, "source-tree-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    private Thread watchThread;
+
+    private WatchService watchService;
+
+    private void registerTree(Path directory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                var key = dir.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                watchedDirectories.put(key, dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+
+    private void watch() {
+        try {
+            while(!Thread.currentThread().isInterrupted()) {
+                var key = watchService.take();
+                long batchStart = System.currentTimeMillis();
+                long batchDeadline = batchStart + maxBatchWindow.toMillis();
+                var changedFiles = new LinkedHashSet<Path>();
+                while(key != null) {
+                    collectChanges(key, changedFiles);
+                    if(System.currentTimeMillis() < batchDeadline) {
+                        key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+                    } else {
+                        key = null;
+                    }
+                }
+                applyChanges(changedFiles);
+                publishModel(batchStart);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Watch service closed");
+        }
+    }
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    private void collectChanges(WatchKey key, Set<Path> changedFiles) {
+        var directory = watchedDirectories.get(key);
+        for(var event : key.pollEvents()) {
+            if(event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                logger.warn("Lost file system events, rescanning {}", sourceDirectory);
+                rescanRequired = true;
+            } else if(directory != null) {
+                var changedPath = directory.resolve((Path) event.context());
+                if(event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                        && Files.isDirectory(changedPath)) {
+                    collectNewDirectory(changedPath, changedFiles);
+                } else if(isJavaSourceFile(changedPath)) {
+                    changedFiles.add(changedPath);
+                } else if(event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                    collectDeletedDirectory(changedPath, changedFiles);
+                }
+            }
+        }
+        if(!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+    }
+
+    private boolean rescanRequired;
+
+    private void collectNewDirectory(Path directory, Set<Path> changedFiles) {
+        try {
+            registerTree(directory);
+            try(var files = Files.walk(directory)) {
+                files.filter(this::isJavaSourceFile).forEach(changedFiles::add);
+            }
+        } catch (IOException e) {
+            logger.error("Unable to watch new directory {}", directory, e);
+        }
+    }
+
+    private void collectDeletedDirectory(Path directory, Set<Path> changedFiles) {
+        var directoryPrefix = directory.toString() + directory.getFileSystem().getSeparator();
+        for(String sourceId : scanner.sourceIds()) {
+            if(sourceId.startsWith(directoryPrefix)) {
+                changedFiles.add(Path.of(sourceId));
+            }
+        }
+    }
+
+    private boolean isJavaSourceFile(Path path) {
+        return path.toString().endsWith(".java");
+    }
+
+    private void applyChanges(Set<Path> changedFiles) {
+        if(rescanRequired) {
+            rescanRequired = false;
+            collectVanishedSources(changedFiles);
+            try {
+                scanner.includeTree(sourceDirectory);
+            } catch (Exception e) {
+                logger.error("Unable to rescan {}", sourceDirectory, e);
+            }
+        }
+
+        try {
+            scanner.update(changedFiles);
+        } catch (Exception e) {
+            logger.error("Unable to update {}", changedFiles, e);
+        }
+    }
+
+    private void collectVanishedSources(Set<Path> changedFiles) {
+        for(String sourceId : scanner.sourceIds()) {
+            var sourcePath = Path.of(sourceId);
+            if(!Files.exists(sourcePath)) {
+                changedFiles.add(sourcePath);
+            }
+        }
+    }
+
+    private void publishModel(long batchStart) {
+        M model;
+        try {
+            model = modelSupplier.get();
+        } catch (Exception e) {
+            logger.error("Unable to build model", e);
+            return;
+        }
+        recordLatency(System.currentTimeMillis() - batchStart);
+        modelListener.accept(model);
+    }
+
+    private synchronized void recordLatency(long latency) {
+        ++publishedModels;
+        lastLatencyMillis = latency;
+        totalLatencyMillis += latency;
+        maxLatencyMillis = Math.max(maxLatencyMillis, latency);
+        logger.debug("Model updated {} ms after change detection", latency);
+    }
+
+    public synchronized long publishedModels() {
+        return publishedModels;
+    }
+
+    private long publishedModels;
+
+    public synchronized long lastLatencyMillis() {
+        return lastLatencyMillis;
+    }
+
+    private long lastLatencyMillis;
+
+    public synchronized long maxLatencyMillis() {
+        return maxLatencyMillis;
+    }
+
+    private long maxLatencyMillis;
+
+    public synchronized double averageLatencyMillis() {
+        if(publishedModels == 0) {
+            return 0;
+        } else {
+            return (double) totalLatencyMillis / publishedModels;
+        }
+    }
+
+    private long totalLatencyMillis;
+
+    @Override
+    public void close() throws IOException {
+        Thread stoppedThread;
+        synchronized(this) {
+            stoppedThread = watchThread;
+            if(stoppedThread != null) {
+                stoppedThread.interrupt();
+                watchService.close();
+            }
+        }
+        if(stoppedThread != null) {
+            try {
+                stoppedThread.join(CLOSE_TIMEOUT.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if(stoppedThread.isAlive()) {
+                logger.warn("Watcher thread did not stop within {} ms", CLOSE_TIMEOUT.toMillis());
+            }
+        }
+    }
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+    private IncrementalSourceConsumer scanner;
+
+    private Path sourceDirectory;
+
+    private Supplier<M> modelSupplier;
+
+    private Consumer<M> modelListener;
+
+    private Duration debounce = DEFAULT_DEBOUNCE;
+
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+    private Duration maxBatchWindow = DEFAULT_MAX_BATCH_WINDOW;
+
+    public static final Duration DEFAULT_MAX_BATCH_WINDOW = Duration.ofSeconds(2);
+
+    public static class Builder<M> {
+
+        private SourceTreeWatcher<M> watcher = new SourceTreeWatcher<>();
+
+        public SourceTreeWatcher<M> build() {
+            requireNonNull(watcher.scanner);
+            requireNonNull(watcher.sourceDirectory);
+            requireNonNull(watcher.modelSupplier);
+            requireNonNull(watcher.modelListener);
+            requireNonNull(watcher.debounce);
+            requireNonNull(watcher.maxBatchWindow);
+            if(watcher.maxBatchWindow.compareTo(watcher.debounce) < 0) {
+                throw new IllegalStateException("Max batch window must not be shorter than debounce");
+            }
+            return watcher;
+        }
+
+        public Builder<M> scanner(IncrementalSourceConsumer scanner) {
+            watcher.scanner = scanner;
+            return this;
+        }
+
+        public Builder<M> sourceDirectory(Path sourceDirectory) {
+            watcher.sourceDirectory = sourceDirectory;
+            return this;
+        }
+
+        public Builder<M> modelSupplier(Supplier<M> modelSupplier) {
+            watcher.modelSupplier = modelSupplier;
+            return this;
+        }
+
+        public Builder<M> modelListener(Consumer<M> modelListener) {
+            watcher.modelListener = modelListener;
+            return this;
+        }
+
+        public Builder<M> debounce(Duration debounce) {
+            watcher.debounce = debounce;
+            return this;
+        }
+
+        public Builder<M> maxBatchWindow(Duration maxBatchWindow) {
+            watcher.maxBatchWindow = maxBatchWindow;
+            return this;
+        }
+    }
+
+    private SourceTreeWatcher() {
+
+    }
+}
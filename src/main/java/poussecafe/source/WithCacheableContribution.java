@@ -0,0 +1,12 @@
+package poussecafe.source;
+
+import java.io.Serializable;
+
+public interface WithCacheableContribution {
+
+    void startContribution();
+
+    Serializable endContribution();
+
+    void replayContribution(Serializable contribution);
+}
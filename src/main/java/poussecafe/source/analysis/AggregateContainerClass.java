@@ -1,13 +1,11 @@
 package poussecafe.source.analysis;
 
 import java.util.Optional;
-import org.eclipse.jdt.core.dom.TypeDeclaration;
 
 public class AggregateContainerClass {
 
     public static boolean isAggregateContainerClass(ResolvedTypeDeclaration resolvedTypeDeclaration) {
-        AnnotatedElement<TypeDeclaration> annotatedElement = resolvedTypeDeclaration.asAnnotatedElement();
-        return annotatedElement.findAnnotation(CompilationUnitResolver.AGGREGATE_ANNOTATION_CLASS).isPresent();
+        return resolvedTypeDeclaration.classification().is(ComponentKind.AGGREGATE_CONTAINER);
     }
 
     public AggregateContainerClass(ResolvedTypeDeclaration resolvedTypeDeclaration) {
@@ -17,7 +15,7 @@ public class AggregateContainerClass {
     private ResolvedTypeDeclaration resolvedTypeDeclaration;
 
     public String aggregateName() {
-        return resolvedTypeDeclaration.unresolvedName().simpleName();
+        return resolvedTypeDeclaration.classification().aggregateName().orElseThrow();
     }
 
     public Optional<ClassName> identifierClassName() {
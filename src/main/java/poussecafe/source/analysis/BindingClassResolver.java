@@ -0,0 +1,147 @@
+package poussecafe.source.analysis;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import poussecafe.source.Source;
+
+import static java.util.Objects.requireNonNull;
+
+public class BindingClassResolver extends ClassResolver {
+
+    @Override
+    protected ResolvedClass loadClass(String name) throws ClassNotFoundException {
+        return findClass(name).toOptional()
+                .orElseThrow(() -> new ClassNotFoundException(name));
+    }
+
+    @Override
+    protected ResolutionResult findClass(String name) {
+        var resolvedClass = resolvedClasses.get(name);
+        if(resolvedClass != null) {
+            return ResolutionResult.resolved(resolvedClass);
+        } else {
+            return ResolutionResult.of(name, fallback.loadClass(new ClassName(name)));
+        }
+    }
+
+    private ClassResolver fallback;
+
+    public Optional<ResolvedClass> loadClass(ITypeBinding binding) {
+        if(isClassBinding(binding)) {
+            return Optional.of(resolvedClass(binding));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isClassBinding(ITypeBinding binding) {
+        return binding != null
+                && !binding.isRecovered()
+                && !binding.isPrimitive()
+                && !binding.isArray()
+                && !binding.isTypeVariable()
+                && !binding.isWildcardType()
+                && !binding.isCapture()
+                && !binding.isNullType()
+                && !binding.isLocal()
+                && !binding.isAnonymous();
+    }
+
+    ResolvedClass resolvedClass(ITypeBinding binding) {
+        var erasure = binding.getErasure();
+        var qualifiedName = erasure.getQualifiedName();
+        var resolvedClass = resolvedClasses.get(qualifiedName);
+        if(resolvedClass == null) {
+            resolvedClass = new BindingResolvedClass.Builder()
+                    .binding(erasure)
+                    .classResolver(this)
+                    .build();
+            var previousClass = resolvedClasses.putIfAbsent(qualifiedName, resolvedClass);
+            if(previousClass != null) {
+                return previousClass;
+            }
+            lookupCache().invalidate(qualifiedName);
+        }
+        return resolvedClass;
+    }
+
+    private Map<String, ResolvedClass> resolvedClasses = new ConcurrentHashMap<>();
+
+    public void register(Source source, CompilationUnit compilationUnit) {
+        for(Object type : compilationUnit.types()) {
+            var binding = ((AbstractTypeDeclaration) type).resolveBinding();
+            if(isClassBinding(binding)) {
+                var resolvedClass = resolvedClass(binding);
+                sources.put(resolvedClass.name().qualified(), source);
+            }
+        }
+        for(Object importObject : compilationUnit.imports()) {
+            var importDeclaration = (ImportDeclaration) importObject;
+            if(!importDeclaration.isStatic() && !importDeclaration.isOnDemand()) {
+                var binding = importDeclaration.resolveBinding();
+                if(binding instanceof ITypeBinding && isClassBinding((ITypeBinding) binding)) {
+                    resolvedClass((ITypeBinding) binding);
+                }
+            }
+        }
+    }
+
+    private Map<String, Source> sources = new ConcurrentHashMap<>();
+
+    Optional<Source> source(ClassName rootClassName) {
+        return Optional.ofNullable(sources.get(rootClassName.qualified()));
+    }
+
+    Optional<ResolvedClass> fallbackClass(ClassName name) {
+        return fallback.loadClass(name);
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        resolvedClasses.clear();
+        sources.clear();
+        fallback.invalidate();
+    }
+
+    @Override
+    public void invalidate(String qualifiedName) {
+        super.invalidate(qualifiedName);
+        resolvedClasses.remove(qualifiedName);
+        sources.remove(qualifiedName);
+        fallback.invalidate(qualifiedName);
+    }
+
+    @Override
+    public void refreshPackageIndex() {
+        super.refreshPackageIndex();
+        fallback.refreshPackageIndex();
+    }
+
+    public static class Builder {
+
+        private BindingClassResolver resolver = new BindingClassResolver();
+
+        public BindingClassResolver build() {
+            if(resolver.fallback == null) {
+                resolver.fallback = new ClassLoaderClassResolver();
+            }
+            return resolver;
+        }
+
+        public Builder fallback(ClassResolver fallback) {
+            requireNonNull(fallback);
+            resolver.fallback = fallback;
+            return this;
+        }
+    }
+
+    private BindingClassResolver() {
+
+    }
+}
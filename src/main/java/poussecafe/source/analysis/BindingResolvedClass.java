@@ -0,0 +1,196 @@
+package poussecafe.source.analysis;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.Modifier;
+import poussecafe.source.PathSource;
+import poussecafe.source.Source;
+import poussecafe.util.Equality;
+
+import static java.util.Objects.requireNonNull;
+
+public class BindingResolvedClass implements ResolvedClass {
+
+    @Override
+    public ClassName name() {
+        if(name == null) {
+            name = new ClassName(binding.getQualifiedName());
+        }
+        return name;
+    }
+
+    private volatile ClassName name;
+
+    private ITypeBinding binding;
+
+    public ITypeBinding binding() {
+        return binding;
+    }
+
+    @Override
+    public List<ResolvedClass> innerClasses() {
+        if(innerClassList == null) {
+            innerClassList = List.copyOf(innerClassesBySimpleName().values());
+        }
+        return innerClassList;
+    }
+
+    private volatile List<ResolvedClass> innerClassList;
+
+    private Map<String, ResolvedClass> innerClassesBySimpleName() {
+        if(innerClasses == null) {
+            var innerClassesBySimpleName = new LinkedHashMap<String, ResolvedClass>();
+            for(ITypeBinding innerType : binding.getDeclaredTypes()) {
+                innerClassesBySimpleName.put(innerType.getName(), classResolver.resolvedClass(innerType));
+            }
+            innerClasses = Collections.unmodifiableMap(innerClassesBySimpleName);
+        }
+        return innerClasses;
+    }
+
+    private volatile Map<String, ResolvedClass> innerClasses;
+
+    @Override
+    public Optional<ResolvedClass> innerClass(String simpleName) {
+        return Optional.ofNullable(innerClassesBySimpleName().get(simpleName));
+    }
+
+    @Override
+    public boolean instanceOf(String supertype) throws ClassNotFoundException {
+        if(!instanceOfResults.containsKey(supertype)
+                && classResolver.loadClass(new ClassName(supertype)).isEmpty()) {
+            throw new ClassNotFoundException(supertype);
+        }
+        return subtypeOf(supertype);
+    }
+
+    @Override
+    public boolean subtypeOf(String supertype) {
+        var cachedResult = instanceOfResults.get(supertype);
+        if(cachedResult != null) {
+            return cachedResult;
+        }
+
+        boolean result = supertype.equals(Object.class.getCanonicalName()) || hasAncestor(supertype);
+        instanceOfResults.put(supertype, result);
+        return result;
+    }
+
+    private Map<String, Boolean> instanceOfResults = new ConcurrentHashMap<>();
+
+    private boolean hasAncestor(String supertype) {
+        var visited = new HashSet<String>();
+        var pending = new ArrayDeque<ITypeBinding>();
+        pending.add(binding);
+        while(!pending.isEmpty()) {
+            var current = pending.poll().getErasure();
+            var currentName = current.getQualifiedName();
+            if(currentName.equals(supertype)) {
+                return true;
+            }
+            if(visited.add(currentName)) {
+                if(current.getSuperclass() != null) {
+                    pending.add(current.getSuperclass());
+                }
+                for(ITypeBinding superInterface : current.getInterfaces()) {
+                    pending.add(superInterface);
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<ResolvedClass> declaringClass() {
+        return Optional.ofNullable(binding.getDeclaringClass())
+                .map(classResolver::resolvedClass);
+    }
+
+    @Override
+    public ClassResolver resolver() {
+        return classResolver;
+    }
+
+    private BindingClassResolver classResolver;
+
+    @Override
+    public Optional<Object> staticFieldValue(String fieldName) {
+        for(IVariableBinding field : binding.getDeclaredFields()) {
+            if(field.getName().equals(fieldName)) {
+                if(!Modifier.isStatic(field.getModifiers()) && !binding.isInterface()) {
+                    throw new IllegalArgumentException("Field " + fieldName + " is not static");
+                }
+                var constantValue = field.getConstantValue();
+                if(constantValue != null) {
+                    return Optional.of(constantValue);
+                } else {
+                    return classResolver.fallbackClass(name())
+                            .flatMap(fallbackClass -> fallbackClass.staticFieldValue(fieldName));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Source source() {
+        ResolvedClass rootClass = this;
+        while(rootClass.declaringClass().isPresent()) {
+            rootClass = rootClass.declaringClass().get();
+        }
+        var rootClassName = rootClass.name();
+        return classResolver.source(rootClassName)
+                .orElseGet(() -> new PathSource(SafeClassName.ofRootClass(rootClassName).toRelativePath()));
+    }
+
+    @Override
+    public boolean isInterface() {
+        return binding.isInterface();
+    }
+
+    public static class Builder {
+
+        public BindingResolvedClass build() {
+            requireNonNull(resolvedClass.binding);
+            requireNonNull(resolvedClass.classResolver);
+            return resolvedClass;
+        }
+
+        private BindingResolvedClass resolvedClass = new BindingResolvedClass();
+
+        public Builder binding(ITypeBinding binding) {
+            resolvedClass.binding = binding;
+            return this;
+        }
+
+        public Builder classResolver(BindingClassResolver classResolver) {
+            resolvedClass.classResolver = classResolver;
+            return this;
+        }
+    }
+
+    private BindingResolvedClass() {
+
+    }
+
+    @Override
+    public int hashCode() {
+        return binding.getKey().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return Equality.referenceEquals(this, obj).orElse(other -> new EqualsBuilder()
+                .append(binding.getKey(), other.binding.getKey())
+                .build());
+    }
+}
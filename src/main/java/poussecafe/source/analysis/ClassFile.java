@@ -0,0 +1,352 @@
+package poussecafe.source.analysis;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+class ClassFile {
+
+    public static ClassFile read(InputStream inputStream) throws IOException {
+        var input = new DataInputStream(inputStream);
+        if(input.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        input.readUnsignedShort(); // minor version
+        input.readUnsignedShort(); // major version
+
+        var constantPool = readConstantPool(input);
+        var classFile = new ClassFile();
+        classFile.accessFlags = input.readUnsignedShort();
+        classFile.internalName = constantPool.className(input.readUnsignedShort());
+        int superClassIndex = input.readUnsignedShort();
+        if(superClassIndex != 0) {
+            classFile.superName = constantPool.className(superClassIndex);
+        }
+        int interfacesCount = input.readUnsignedShort();
+        for(int i = 0; i < interfacesCount; ++i) {
+            classFile.interfaceNames.add(constantPool.className(input.readUnsignedShort()));
+        }
+
+        readFields(input, constantPool, classFile);
+        skipMembers(input);
+        readClassAttributes(input, constantPool, classFile);
+        return classFile;
+    }
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static ConstantPool readConstantPool(DataInputStream input) throws IOException {
+        int count = input.readUnsignedShort();
+        var constantPool = new ConstantPool(count);
+        for(int i = 1; i < count; ++i) {
+            int tag = input.readUnsignedByte();
+            switch(tag) {
+            case CONSTANT_UTF8:
+                constantPool.entries[i] = input.readUTF();
+                break;
+            case CONSTANT_INTEGER:
+                constantPool.entries[i] = input.readInt();
+                break;
+            case CONSTANT_FLOAT:
+                constantPool.entries[i] = input.readFloat();
+                break;
+            case CONSTANT_LONG:
+                constantPool.entries[i] = input.readLong();
+                ++i;
+                break;
+            case CONSTANT_DOUBLE:
+                constantPool.entries[i] = input.readDouble();
+                ++i;
+                break;
+            case CONSTANT_CLASS:
+            case CONSTANT_STRING:
+                constantPool.entries[i] = new Reference(input.readUnsignedShort());
+                break;
+            case CONSTANT_METHOD_TYPE:
+            case CONSTANT_MODULE:
+            case CONSTANT_PACKAGE:
+                skipFully(input, 2);
+                break;
+            case CONSTANT_METHOD_HANDLE:
+                skipFully(input, 3);
+                break;
+            case CONSTANT_FIELD_REF:
+            case CONSTANT_METHOD_REF:
+            case CONSTANT_INTERFACE_METHOD_REF:
+            case CONSTANT_NAME_AND_TYPE:
+            case CONSTANT_DYNAMIC:
+            case CONSTANT_INVOKE_DYNAMIC:
+                skipFully(input, 4);
+                break;
+            default:
+                throw new IOException("Unsupported constant pool tag " + tag);
+            }
+        }
+        return constantPool;
+    }
+
+    private static final int CONSTANT_UTF8 = 1;
+
+    private static final int CONSTANT_INTEGER = 3;
+
+    private static final int CONSTANT_FLOAT = 4;
+
+    private static final int CONSTANT_LONG = 5;
+
+    private static final int CONSTANT_DOUBLE = 6;
+
+    private static final int CONSTANT_CLASS = 7;
+
+    private static final int CONSTANT_STRING = 8;
+
+    private static final int CONSTANT_FIELD_REF = 9;
+
+    private static final int CONSTANT_METHOD_REF = 10;
+
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+
+    private static final int CONSTANT_METHOD_TYPE = 16;
+
+    private static final int CONSTANT_DYNAMIC = 17;
+
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+
+    private static final int CONSTANT_MODULE = 19;
+
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private static class ConstantPool {
+
+        ConstantPool(int count) {
+            entries = new Object[count];
+        }
+
+        private Object[] entries;
+
+        String utf8(int index) {
+            return (String) entries[index];
+        }
+
+        String className(int index) {
+            return utf8(((Reference) entries[index]).index);
+        }
+
+        Object constantValue(int index) {
+            var entry = entries[index];
+            if(entry instanceof Reference) {
+                return utf8(((Reference) entry).index);
+            } else {
+                return entry;
+            }
+        }
+    }
+
+    private static class Reference {
+
+        Reference(int index) {
+            this.index = index;
+        }
+
+        private int index;
+    }
+
+    private static void readFields(DataInputStream input, ConstantPool constantPool, ClassFile classFile)
+            throws IOException {
+        int fieldsCount = input.readUnsignedShort();
+        for(int i = 0; i < fieldsCount; ++i) {
+            int accessFlags = input.readUnsignedShort();
+            var fieldName = constantPool.utf8(input.readUnsignedShort());
+            var descriptor = constantPool.utf8(input.readUnsignedShort());
+            boolean isStatic = (accessFlags & ACC_STATIC) != 0;
+            if(isStatic) {
+                classFile.staticFieldNames.add(fieldName);
+            } else {
+                classFile.instanceFieldNames.add(fieldName);
+            }
+
+            int attributesCount = input.readUnsignedShort();
+            for(int j = 0; j < attributesCount; ++j) {
+                var attributeName = constantPool.utf8(input.readUnsignedShort());
+                int attributeLength = input.readInt();
+                if(isStatic && attributeName.equals("ConstantValue")) {
+                    var value = constantPool.constantValue(input.readUnsignedShort());
+                    classFile.constantValues.put(fieldName, toFieldType(descriptor, value));
+                } else {
+                    skipFully(input, attributeLength);
+                }
+            }
+        }
+    }
+
+    private static final int ACC_STATIC = 0x0008;
+
+    private static Object toFieldType(String descriptor, Object value) {
+        if(value instanceof Integer) {
+            int intValue = (Integer) value;
+            switch(descriptor) {
+            case "Z":
+                return intValue != 0;
+            case "C":
+                return (char) intValue;
+            case "B":
+                return (byte) intValue;
+            case "S":
+                return (short) intValue;
+            default:
+                return intValue;
+            }
+        } else {
+            return value;
+        }
+    }
+
+    private static void skipFully(DataInputStream input, int length) throws IOException {
+        int remaining = length;
+        while(remaining > 0) {
+            int skipped = input.skipBytes(remaining);
+            if(skipped <= 0) {
+                throw new IOException("Unexpected end of class file");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private static void skipMembers(DataInputStream input) throws IOException {
+        int membersCount = input.readUnsignedShort();
+        for(int i = 0; i < membersCount; ++i) {
+            skipFully(input, 6);
+            skipAttributes(input);
+        }
+    }
+
+    private static void skipAttributes(DataInputStream input) throws IOException {
+        int attributesCount = input.readUnsignedShort();
+        for(int i = 0; i < attributesCount; ++i) {
+            skipFully(input, 2);
+            skipFully(input, input.readInt());
+        }
+    }
+
+    private static void readClassAttributes(DataInputStream input, ConstantPool constantPool, ClassFile classFile)
+            throws IOException {
+        int attributesCount = input.readUnsignedShort();
+        for(int i = 0; i < attributesCount; ++i) {
+            var attributeName = constantPool.utf8(input.readUnsignedShort());
+            int attributeLength = input.readInt();
+            if(attributeName.equals("InnerClasses")) {
+                readInnerClasses(input, constantPool, classFile);
+            } else {
+                skipFully(input, attributeLength);
+            }
+        }
+    }
+
+    private static void readInnerClasses(DataInputStream input, ConstantPool constantPool, ClassFile classFile)
+            throws IOException {
+        int classesCount = input.readUnsignedShort();
+        for(int i = 0; i < classesCount; ++i) {
+            int innerClassIndex = input.readUnsignedShort();
+            int outerClassIndex = input.readUnsignedShort();
+            int innerNameIndex = input.readUnsignedShort();
+            input.readUnsignedShort(); // inner class access flags
+            if(outerClassIndex == 0 || innerNameIndex == 0) {
+                continue;
+            }
+
+            var innerClassName = constantPool.className(innerClassIndex);
+            var outerClassName = constantPool.className(outerClassIndex);
+            if(outerClassName.equals(classFile.internalName)) {
+                classFile.innerClassNames.add(innerClassName);
+            }
+            if(innerClassName.equals(classFile.internalName)) {
+                classFile.declaringClassName = outerClassName;
+                classFile.simpleName = constantPool.utf8(innerNameIndex);
+            }
+        }
+    }
+
+    public String internalName() {
+        return internalName;
+    }
+
+    private String internalName;
+
+    public String simpleName() {
+        if(simpleName == null) {
+            return internalName.substring(internalName.lastIndexOf('/') + 1);
+        } else {
+            return simpleName;
+        }
+    }
+
+    private String simpleName;
+
+    public boolean isInterface() {
+        return (accessFlags & ACC_INTERFACE) != 0;
+    }
+
+    private static final int ACC_INTERFACE = 0x0200;
+
+    private int accessFlags;
+
+    public Optional<String> superName() {
+        return Optional.ofNullable(superName);
+    }
+
+    private String superName;
+
+    public List<String> interfaceNames() {
+        return Collections.unmodifiableList(interfaceNames);
+    }
+
+    private List<String> interfaceNames = new ArrayList<>();
+
+    public List<String> innerClassNames() {
+        return Collections.unmodifiableList(innerClassNames);
+    }
+
+    private List<String> innerClassNames = new ArrayList<>();
+
+    public Optional<String> declaringClassName() {
+        return Optional.ofNullable(declaringClassName);
+    }
+
+    private String declaringClassName;
+
+    public boolean hasStaticField(String fieldName) {
+        return staticFieldNames.contains(fieldName);
+    }
+
+    private Set<String> staticFieldNames = new HashSet<>();
+
+    public boolean hasInstanceField(String fieldName) {
+        return instanceFieldNames.contains(fieldName);
+    }
+
+    private Set<String> instanceFieldNames = new HashSet<>();
+
+    public Optional<Object> constantValue(String fieldName) {
+        requireNonNull(fieldName);
+        return Optional.ofNullable(constantValues.get(fieldName));
+    }
+
+    private Map<String, Object> constantValues = new HashMap<>();
+
+    private ClassFile() {
+
+    }
+}
@@ -0,0 +1,188 @@
+package poussecafe.source.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+public class ClassFileClassResolver extends ClassResolver implements Closeable {
+
+    @Override
+    protected ResolvedClass loadClass(String name) throws ClassNotFoundException {
+        var internalName = name.replace('.', '/');
+        return resolvedClass(internalName)
+                .orElseThrow(() -> new ClassNotFoundException(name));
+    }
+
+    @Override
+    protected ResolutionResult findClass(String name) {
+        return ResolutionResult.of(name, resolvedClass(name.replace('.', '/')));
+    }
+
+    Optional<ResolvedClass> resolvedClass(String internalName) {
+        var resolvedClass = resolvedClasses.get(internalName);
+        if(resolvedClass != null) {
+            return Optional.of(resolvedClass);
+        }
+
+        var classFile = classFile(internalName);
+        if(classFile.isPresent()) {
+            var newResolvedClass = new ClassFileResolvedClass.Builder()
+                    .classFile(classFile.get())
+                    .classResolver(this)
+                    .build();
+            return Optional.of(resolvedClasses.computeIfAbsent(internalName, key -> newResolvedClass));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private Map<String, ResolvedClass> resolvedClasses = new ConcurrentHashMap<>();
+
+    Optional<ClassFile> classFile(String internalName) {
+        var classFile = classFiles.get(internalName);
+        if(classFile == null) {
+            classFile = readClassFile(internalName);
+            classFiles.putIfAbsent(internalName, classFile);
+        }
+        return classFile;
+    }
+
+    private Map<String, Optional<ClassFile>> classFiles = new ConcurrentHashMap<>();
+
+    private Optional<ClassFile> readClassFile(String internalName) {
+        var resourceName = internalName + ".class";
+        try {
+            for(Path entry : classPath) {
+                var classFile = readClassFile(entry, resourceName);
+                if(classFile.isPresent()) {
+                    return classFile;
+                }
+            }
+
+            try(var inputStream = classLoader.getResourceAsStream(resourceName)) {
+                if(inputStream != null) {
+                    return Optional.of(read(inputStream));
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to read class file {}", resourceName, e);
+        }
+        return Optional.empty();
+    }
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    private Optional<ClassFile> readClassFile(Path entry, String resourceName) throws IOException {
+        if(Files.isDirectory(entry)) {
+            var classFilePath = entry.resolve(resourceName);
+            if(Files.isRegularFile(classFilePath)) {
+                try(var inputStream = Files.newInputStream(classFilePath)) {
+                    return Optional.of(read(inputStream));
+                }
+            }
+        } else if(Files.isRegularFile(entry)) {
+            var jarFile = jarFile(entry);
+            var jarEntry = jarFile.getJarEntry(resourceName);
+            if(jarEntry != null) {
+                try(var inputStream = jarFile.getInputStream(jarEntry)) {
+                    return Optional.of(read(inputStream));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private ClassFile read(InputStream inputStream) throws IOException {
+        return ClassFile.read(new BufferedInputStream(inputStream));
+    }
+
+    private synchronized JarFile jarFile(Path jar) throws IOException {
+        var jarFile = openJarFiles.get(jar);
+        if(jarFile == null) {
+            jarFile = new JarFile(jar.toFile());
+            openJarFiles.put(jar, jarFile);
+        }
+        return jarFile;
+    }
+
+    private Map<Path, JarFile> openJarFiles = new ConcurrentHashMap<>();
+
+    private List<Path> classPath = new ArrayList<>();
+
+    private ClassLoader classLoader = ClassFileClassResolver.class.getClassLoader();
+
+    @Override
+    public Optional<List<Path>> classPath() {
+        return classPathOf(classLoader).map(loaderClassPath -> {
+            var searchedClassPath = new ArrayList<>(classPath);
+            searchedClassPath.addAll(loaderClassPath);
+            return searchedClassPath;
+        });
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for(JarFile jarFile : openJarFiles.values()) {
+            jarFile.close();
+        }
+        openJarFiles.clear();
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        classFiles.clear();
+        resolvedClasses.clear();
+    }
+
+    @Override
+    public void invalidate(String qualifiedName) {
+        super.invalidate(qualifiedName);
+        var internalName = qualifiedName.replace('.', '/');
+        classFiles.remove(internalName);
+        resolvedClasses.remove(internalName);
+    }
+
+    public static class Builder {
+
+        private ClassFileClassResolver resolver = new ClassFileClassResolver();
+
+        public ClassFileClassResolver build() {
+            requireNonNull(resolver.classLoader);
+            return resolver;
+        }
+
+        public Builder classPathEntry(Path entry) {
+            requireNonNull(entry);
+            resolver.classPath.add(entry);
+            return this;
+        }
+
+        public Builder classPath(List<Path> classPath) {
+            classPath.forEach(this::classPathEntry);
+            return this;
+        }
+
+        public Builder classLoader(ClassLoader classLoader) {
+            resolver.classLoader = classLoader;
+            return this;
+        }
+    }
+
+    private ClassFileClassResolver() {
+
+    }
+}
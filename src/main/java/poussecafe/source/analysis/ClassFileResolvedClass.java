@@ -0,0 +1,183 @@
+package poussecafe.source.analysis;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import poussecafe.source.PathSource;
+import poussecafe.source.Source;
+import poussecafe.util.Equality;
+
+import static java.util.Objects.requireNonNull;
+
+public class ClassFileResolvedClass implements ResolvedClass {
+
+    @Override
+    public ClassName name() {
+        if(name == null) {
+            var declaringClass = declaringClass();
+            if(declaringClass.isPresent()) {
+                name = declaringClass.get().name().withLastSegment(classFile.simpleName());
+            } else {
+                name = new ClassName(classFile.internalName().replace('/', '.'));
+            }
+        }
+        return name;
+    }
+
+    private volatile ClassName name;
+
+    private ClassFile classFile;
+
+    @Override
+    public List<ResolvedClass> innerClasses() {
+        return List.copyOf(innerClassesBySimpleName().values());
+    }
+
+    private Map<String, ResolvedClass> innerClassesBySimpleName() {
+        if(innerClasses == null) {
+            var innerClassesBySimpleName = new LinkedHashMap<String, ResolvedClass>();
+            for(String innerClassName : classFile.innerClassNames()) {
+                classResolver.classFile(innerClassName).ifPresent(innerClassFile -> innerClassesBySimpleName.put(
+                        innerClassFile.simpleName(), classResolver.resolvedClass(innerClassName).orElseThrow()));
+            }
+            innerClasses = Collections.unmodifiableMap(innerClassesBySimpleName);
+        }
+        return innerClasses;
+    }
+
+    private volatile Map<String, ResolvedClass> innerClasses;
+
+    @Override
+    public Optional<ResolvedClass> innerClass(String simpleName) {
+        return Optional.ofNullable(innerClassesBySimpleName().get(simpleName));
+    }
+
+    @Override
+    public boolean instanceOf(String supertype) throws ClassNotFoundException {
+        if(!instanceOfResults.containsKey(supertype)
+                && classResolver.loadClass(new ClassName(supertype)).isEmpty()) {
+            throw new ClassNotFoundException(supertype);
+        }
+        return subtypeOf(supertype);
+    }
+
+    @Override
+    public boolean subtypeOf(String supertype) {
+        var cachedResult = instanceOfResults.get(supertype);
+        if(cachedResult != null) {
+            return cachedResult;
+        }
+
+        var resolvedSupertype = classResolver.loadClass(new ClassName(supertype));
+        if(resolvedSupertype.isEmpty()) {
+            return false;
+        }
+        var supertypeInternalName = ((ClassFileResolvedClass) resolvedSupertype.get()).classFile.internalName();
+        boolean result = hasAncestor(supertypeInternalName);
+        instanceOfResults.put(supertype, result);
+        return result;
+    }
+
+    private Map<String, Boolean> instanceOfResults = new ConcurrentHashMap<>();
+
+    private boolean hasAncestor(String ancestorInternalName) {
+        var visited = new HashSet<String>();
+        var pending = new ArrayDeque<ClassFile>();
+        pending.add(classFile);
+        while(!pending.isEmpty()) {
+            var current = pending.poll();
+            if(current.internalName().equals(ancestorInternalName)) {
+                return true;
+            }
+            if(visited.add(current.internalName())) {
+                current.superName().flatMap(classResolver::classFile).ifPresent(pending::add);
+                for(String interfaceName : current.interfaceNames()) {
+                    classResolver.classFile(interfaceName).ifPresent(pending::add);
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<ResolvedClass> declaringClass() {
+        if(declaringClass == null) {
+            declaringClass = classFile.declaringClassName().flatMap(classResolver::resolvedClass);
+        }
+        return declaringClass;
+    }
+
+    private volatile Optional<ResolvedClass> declaringClass; // NOSONAR
+
+    @Override
+    public ClassResolver resolver() {
+        return classResolver;
+    }
+
+    private ClassFileClassResolver classResolver;
+
+    @Override
+    public Optional<Object> staticFieldValue(String fieldName) {
+        if(classFile.hasInstanceField(fieldName)) {
+            throw new IllegalArgumentException("Field " + fieldName + " is not static");
+        }
+        return classFile.constantValue(fieldName);
+    }
+
+    @Override
+    public Source source() {
+        ResolvedClass rootClass = this;
+        while(rootClass.declaringClass().isPresent()) {
+            rootClass = rootClass.declaringClass().get();
+        }
+        return new PathSource(SafeClassName.ofRootClass(rootClass.name()).toRelativePath());
+    }
+
+    @Override
+    public boolean isInterface() {
+        return classFile.isInterface();
+    }
+
+    public static class Builder {
+
+        public ClassFileResolvedClass build() {
+            requireNonNull(resolvedClass.classFile);
+            requireNonNull(resolvedClass.classResolver);
+            return resolvedClass;
+        }
+
+        private ClassFileResolvedClass resolvedClass = new ClassFileResolvedClass();
+
+        Builder classFile(ClassFile classFile) {
+            resolvedClass.classFile = classFile;
+            return this;
+        }
+
+        public Builder classResolver(ClassFileClassResolver classResolver) {
+            resolvedClass.classResolver = classResolver;
+            return this;
+        }
+    }
+
+    private ClassFileResolvedClass() {
+
+    }
+
+    @Override
+    public int hashCode() {
+        return classFile.internalName().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return Equality.referenceEquals(this, obj).orElse(other -> new EqualsBuilder()
+                .append(classFile.internalName(), other.classFile.internalName())
+                .build());
+    }
+}
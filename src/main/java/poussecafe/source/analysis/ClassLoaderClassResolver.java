@@ -1,12 +1,48 @@
 package poussecafe.source.analysis;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class ClassLoaderClassResolver extends ClassResolver {
 
     @Override
     protected ResolvedClass loadClass(String name) throws ClassNotFoundException {
-        return new ClassLoaderResolvedClass.Builder()
-                .classObject(getClass().getClassLoader().loadClass(name))
+        return resolvedClass(getClass().getClassLoader().loadClass(name));
+    }
+
+    @Override
+    protected ResolutionResult findClass(String name) {
+        var classLoader = getClass().getClassLoader();
+        if(classLoader.getResource(name.replace('.', '/') + ".class") == null) {
+            return ResolutionResult.notFound(name);
+        }
+        try {
+            return ResolutionResult.resolved(resolvedClass(classLoader.loadClass(name)));
+        } catch (ClassNotFoundException | LinkageError e) {
+            return ResolutionResult.error(name, e);
+        }
+    }
+
+    @Override
+    public Optional<List<Path>> classPath() {
+        return classPathOf(getClass().getClassLoader());
+    }
+
+    public ClassLoaderResolvedClass resolvedClass(Class<?> classObject) {
+        return resolvedClasses.computeIfAbsent(classObject, key -> new ClassLoaderResolvedClass.Builder()
+                .classObject(key)
                 .classResolver(this)
-                .build();
+                .build());
+    }
+
+    private Map<Class<?>, ClassLoaderResolvedClass> resolvedClasses = new ConcurrentHashMap<>();
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        resolvedClasses.clear();
     }
 }
@@ -1,8 +1,10 @@
 package poussecafe.source.analysis;
 
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import poussecafe.source.PathSource;
@@ -10,15 +12,19 @@ import poussecafe.source.Source;
 import poussecafe.util.Equality;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 public class ClassLoaderResolvedClass implements ResolvedClass {
 
     @Override
     public ClassName name() {
-        return new ClassName(classObject.getCanonicalName());
+        if(name == null) {
+            name = new ClassName(classObject.getCanonicalName());
+        }
+        return name;
     }
 
+    private volatile ClassName name;
+
     private Class<?> classObject;
 
     public Class<?> classObject() {
@@ -27,37 +33,63 @@ public class ClassLoaderResolvedClass implements ResolvedClass {
 
     @Override
     public List<ResolvedClass> innerClasses() {
-        return Arrays.stream(classObject.getDeclaredClasses())
-                .map(this::newResolvedClass)
-                .collect(toList());
+        return List.copyOf(innerClassesBySimpleName().values());
     }
 
-    private ResolvedClass newResolvedClass(Class<?> classObject) {
-        return new ClassLoaderResolvedClass.Builder().classObject(classObject).classResolver(classResolver).build();
+    private Map<String, ResolvedClass> innerClassesBySimpleName() {
+        if(innerClasses == null) {
+            var innerClassesBySimpleName = new LinkedHashMap<String, ResolvedClass>();
+            for(Class<?> innerClassObject : classObject.getDeclaredClasses()) {
+                innerClassesBySimpleName.put(innerClassObject.getSimpleName(),
+                        classResolver.resolvedClass(innerClassObject));
+            }
+            innerClasses = Collections.unmodifiableMap(innerClassesBySimpleName);
+        }
+        return innerClasses;
+    }
+
+    private volatile Map<String, ResolvedClass> innerClasses;
+
+    @Override
+    public Optional<ResolvedClass> innerClass(String simpleName) {
+        return Optional.ofNullable(innerClassesBySimpleName().get(simpleName));
     }
 
     @Override
     public boolean instanceOf(String supertype) throws ClassNotFoundException {
         Optional<ResolvedClass> classLoaderResolvedSupertype = classResolver.loadClass(new ClassName(supertype));
         if(classLoaderResolvedSupertype.isPresent()) {
-            var supertypeClassObject = classLoaderResolvedSupertype
-                    .map(resolved -> ((ClassLoaderResolvedClass) resolved).classObject)
-                    .orElseThrow();
-            return supertypeClassObject.isAssignableFrom(classObject);
+            return isAssignableTo(classLoaderResolvedSupertype.get());
         } else {
             throw new ClassNotFoundException(supertype);
         }
     }
 
+    private boolean isAssignableTo(ResolvedClass supertype) {
+        return ((ClassLoaderResolvedClass) supertype).classObject.isAssignableFrom(classObject);
+    }
+
+    @Override
+    public boolean subtypeOf(String supertype) {
+        return classResolver.loadClass(new ClassName(supertype))
+                .map(this::isAssignableTo)
+                .orElse(false);
+    }
+
     @Override
     public Optional<ResolvedClass> declaringClass() {
-        if(classObject.getDeclaringClass() != null) {
-            return Optional.of(newResolvedClass(classObject.getDeclaringClass()));
-        } else {
-            return Optional.empty();
+        if(declaringClass == null) {
+            if(classObject.getDeclaringClass() != null) {
+                declaringClass = Optional.of(classResolver.resolvedClass(classObject.getDeclaringClass()));
+            } else {
+                declaringClass = Optional.empty();
+            }
         }
+        return declaringClass;
     }
 
+    private volatile Optional<ResolvedClass> declaringClass; // NOSONAR
+
     @Override
     public ClassResolver resolver() {
         return classResolver;
@@ -0,0 +1,83 @@
+package poussecafe.source.analysis;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public class ClassLookupCache {
+
+    public static final int UNBOUNDED = 0;
+
+    public ClassLookupCache() {
+        this(UNBOUNDED);
+    }
+
+    public ClassLookupCache(int maxCachedClasses) {
+        if(maxCachedClasses < 0) {
+            throw new IllegalArgumentException("Max cached classes must be positive or zero");
+        }
+        this.maxCachedClasses = maxCachedClasses;
+        if(maxCachedClasses == UNBOUNDED) {
+            entries = new ConcurrentHashMap<>();
+        } else {
+            entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Optional<ResolvedClass>> eldest) {
+                    return size() > maxCachedClasses;
+                }
+            });
+        }
+    }
+
+    private int maxCachedClasses;
+
+    public int maxCachedClasses() {
+        return maxCachedClasses;
+    }
+
+    private Map<String, Optional<ResolvedClass>> entries;
+
+    public Optional<ResolvedClass> get(String name, Function<String, Optional<ResolvedClass>> loader) {
+        var cachedClass = entries.get(name);
+        if(cachedClass != null) {
+            hits.increment();
+            return cachedClass;
+        } else {
+            misses.increment();
+            var loadedClass = loader.apply(name);
+            entries.putIfAbsent(name, loadedClass);
+            return loadedClass;
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    private LongAdder hits = new LongAdder();
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    private LongAdder misses = new LongAdder();
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void invalidate(String name) {
+        entries.remove(name);
+    }
+
+    public void invalidate() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,310 @@
+package poussecafe.source.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.zip.ZipFile;
+
+import static java.util.Objects.requireNonNull;
+
+@SuppressWarnings("serial")
+public class ClassPathPackageIndex implements Serializable {
+
+    public boolean indexes(String packageName) {
+        return staleEntries.isEmpty() && packageClasses.containsKey(packageName);
+    }
+
+    private HashMap<String, Set<String>> packageClasses = new HashMap<>();
+
+    public boolean contains(String packageName, String simpleName) {
+        var classes = packageClasses.get(packageName);
+        return classes != null && classes.contains(simpleName);
+    }
+
+    public Set<String> packageClasses(String packageName) {
+        return Collections.unmodifiableSet(packageClasses.getOrDefault(packageName, Collections.emptySet()));
+    }
+
+    public int size() {
+        return packageClasses.size();
+    }
+
+    public boolean coversExactly(List<Path> classPath) {
+        var entryKeys = new HashSet<String>();
+        for(Path entry : classPath) {
+            entryKeys.add(entryKey(entry));
+        }
+        return javaRuntime && classPathEntries.equals(entryKeys);
+    }
+
+    private boolean javaRuntime;
+
+    private HashSet<String> classPathEntries = new HashSet<>();
+
+    public boolean isFresh() {
+        return staleEntries.isEmpty();
+    }
+
+    public Set<String> staleEntries() {
+        return Collections.unmodifiableSet(staleEntries);
+    }
+
+    private transient Set<String> staleEntries = new HashSet<>();
+
+    public void refreshFreshness() {
+        try {
+            checkFreshness();
+        } catch (IOException e) {
+            staleEntries = new HashSet<>(entryFingerprints.keySet());
+        }
+    }
+
+    private void checkFreshness() throws IOException {
+        staleEntries = new HashSet<>();
+        for(Entry<String, String> entry : entryFingerprints.entrySet()) {
+            if(!entry.getValue().equals(currentFingerprint(entry.getKey()))) {
+                staleEntries.add(entry.getKey());
+            }
+        }
+    }
+
+    private HashMap<String, String> entryFingerprints = new HashMap<>();
+
+    private static String currentFingerprint(String entryKey) throws IOException {
+        if(entryKey.equals(JAVA_RUNTIME_KEY)) {
+            return javaRuntimeFingerprint();
+        }
+
+        var entry = Path.of(entryKey);
+        if(Files.isDirectory(entry)) {
+            return directoryFingerprint(entry);
+        } else if(Files.isRegularFile(entry)) {
+            return fileFingerprint(entry);
+        } else {
+            return MISSING_ENTRY_FINGERPRINT;
+        }
+    }
+
+    private static final String JAVA_RUNTIME_KEY = "jrt:/";
+
+    private static final String MISSING_ENTRY_FINGERPRINT = "missing";
+
+    private static String javaRuntimeFingerprint() {
+        return System.getProperty("java.home") + ":" + Runtime.version();
+    }
+
+    private static String fileFingerprint(Path file) throws IOException {
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+    }
+
+    private static String directoryFingerprint(Path directory) throws IOException {
+        var state = new DirectoryState();
+        Files.walkFileTree(directory, state);
+        return state.directories + ":" + state.lastModified;
+    }
+
+    private static class DirectoryState extends SimpleFileVisitor<Path> {
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+            ++directories;
+            lastModified = Math.max(lastModified, attributes.lastModifiedTime().toMillis());
+            return FileVisitResult.CONTINUE;
+        }
+
+        private long directories;
+
+        private long lastModified;
+    }
+
+    private void fingerprint(String entryKey) throws IOException {
+        entryFingerprints.put(entryKey, currentFingerprint(entryKey));
+    }
+
+    private static String entryKey(Path entry) {
+        return entry.toAbsolutePath().normalize().toString();
+    }
+
+    private void add(String packageName, String simpleName) {
+        packageClasses.computeIfAbsent(packageName, key -> new HashSet<>()).add(simpleName);
+    }
+
+    private void addClassFile(String relativePath) {
+        if(relativePath.endsWith(CLASS_FILE_SUFFIX)) {
+            addTypeFile(relativePath.substring(0, relativePath.length() - CLASS_FILE_SUFFIX.length()));
+        }
+    }
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private void addTypeFile(String relativePathWithoutSuffix) {
+        var normalizedPath = relativePathWithoutSuffix.replace('\\', '/');
+        int lastSeparator = normalizedPath.lastIndexOf('/');
+        var simpleName = normalizedPath.substring(lastSeparator + 1);
+        if(simpleName.indexOf('$') != -1
+                || simpleName.equals("module-info")
+                || simpleName.equals("package-info")) {
+            return;
+        }
+
+        String packageName;
+        if(lastSeparator == -1) {
+            packageName = "";
+        } else {
+            packageName = normalizedPath.substring(0, lastSeparator).replace('/', '.');
+        }
+        add(packageName, simpleName);
+    }
+
+    private void addDirectory(Path directory) throws IOException {
+        try(var files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile)
+                .forEach(file -> addClassFile(directory.relativize(file).toString()));
+        }
+    }
+
+    private void addJar(Path jar) throws IOException {
+        try(var zipFile = new ZipFile(jar.toFile())) {
+            var entries = zipFile.entries();
+            while(entries.hasMoreElements()) {
+                var entry = entries.nextElement();
+                var entryName = entry.getName();
+                if(entryName.startsWith(VERSIONED_ENTRIES_PREFIX)) {
+                    int versionEnd = entryName.indexOf('/', VERSIONED_ENTRIES_PREFIX.length());
+                    if(versionEnd != -1) {
+                        addClassFile(entryName.substring(versionEnd + 1));
+                    }
+                } else if(!entry.isDirectory() && !entryName.startsWith("META-INF/")) {
+                    addClassFile(entryName);
+                }
+            }
+        }
+    }
+
+    private static final String VERSIONED_ENTRIES_PREFIX = "META-INF/versions/";
+
+    private void addSourceRoot(Path sourceRoot) throws IOException {
+        try(var files = Files.walk(sourceRoot)) {
+            files.filter(Files::isRegularFile)
+                .map(file -> sourceRoot.relativize(file).toString())
+                .filter(relativePath -> relativePath.endsWith(JAVA_FILE_SUFFIX))
+                .forEach(relativePath -> addTypeFile(relativePath.substring(0,
+                        relativePath.length() - JAVA_FILE_SUFFIX.length())));
+        }
+    }
+
+    private static final String JAVA_FILE_SUFFIX = ".java";
+
+    private void addJavaRuntime() throws IOException {
+        var modules = FileSystems.getFileSystem(URI.create("jrt:/")).getPath("/modules");
+        try(var moduleDirectories = Files.list(modules)) {
+            for(Path moduleDirectory : (Iterable<Path>) moduleDirectories::iterator) {
+                addDirectory(moduleDirectory);
+            }
+        }
+    }
+
+    public void writeTo(Path file) throws IOException {
+        try(var output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeObject(this);
+        }
+    }
+
+    public static ClassPathPackageIndex readFrom(Path file) throws IOException {
+        ClassPathPackageIndex index;
+        try(var input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            input.setObjectInputFilter(INDEX_FILTER);
+            index = (ClassPathPackageIndex) input.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Unable to read package index from " + file, e);
+        }
+        index.checkFreshness();
+        return index;
+    }
+
+    private static final ObjectInputFilter INDEX_FILTER = ObjectInputFilter.Config.createFilter(
+            "poussecafe.source.analysis.ClassPathPackageIndex;java.util.HashMap;java.util.HashSet;java.util.Map$Entry;"
+            + "java.lang.String;!*");
+
+    public static class Builder {
+
+        private ClassPathPackageIndex index = new ClassPathPackageIndex();
+
+        public ClassPathPackageIndex build() {
+            try {
+                if(javaRuntime) {
+                    index.fingerprint(JAVA_RUNTIME_KEY);
+                    index.addJavaRuntime();
+                    index.javaRuntime = true;
+                }
+                for(Path entry : classPath) {
+                    index.fingerprint(entryKey(entry));
+                    index.classPathEntries.add(entryKey(entry));
+                    if(Files.isDirectory(entry)) {
+                        index.addDirectory(entry);
+                    } else if(Files.isRegularFile(entry)) {
+                        index.addJar(entry);
+                    }
+                }
+                for(Path sourceRoot : sourceRoots) {
+                    index.fingerprint(entryKey(sourceRoot));
+                    index.addSourceRoot(sourceRoot);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to build package index", e);
+            }
+            return index;
+        }
+
+        public Builder javaRuntime(boolean javaRuntime) {
+            this.javaRuntime = javaRuntime;
+            return this;
+        }
+
+        private boolean javaRuntime;
+
+        public Builder classPathEntry(Path entry) {
+            requireNonNull(entry);
+            classPath.add(entry);
+            return this;
+        }
+
+        public Builder classPath(List<Path> classPath) {
+            classPath.forEach(this::classPathEntry);
+            return this;
+        }
+
+        private List<Path> classPath = new ArrayList<>();
+
+        public Builder sourceRoot(Path sourceRoot) {
+            requireNonNull(sourceRoot);
+            sourceRoots.add(sourceRoot);
+            return this;
+        }
+
+        private List<Path> sourceRoots = new ArrayList<>();
+    }
+
+    private ClassPathPackageIndex() {
+
+    }
+}
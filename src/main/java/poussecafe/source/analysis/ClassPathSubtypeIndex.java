@@ -0,0 +1,316 @@
+package poussecafe.source.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+@SuppressWarnings("serial")
+public class ClassPathSubtypeIndex implements Serializable {
+
+    public Set<String> subtypesOf(String supertypeName) {
+        var subtypes = new HashSet<String>();
+        var pending = new ArrayDeque<String>();
+        pending.add(supertypeName);
+        while(!pending.isEmpty()) {
+            var directSubtypes = this.directSubtypes.get(pending.poll());
+            if(directSubtypes != null) {
+                for(String subtype : directSubtypes) {
+                    if(subtypes.add(subtype)) {
+                        pending.add(subtype);
+                    }
+                }
+            }
+        }
+        return subtypes;
+    }
+
+    private HashMap<String, List<String>> directSubtypes = new HashMap<>();
+
+    public int size() {
+        return directSubtypes.size();
+    }
+
+    private void merge(ClassPathSubtypeIndex other) {
+        other.directSubtypes.forEach((supertype, subtypes) -> directSubtypes
+                .computeIfAbsent(supertype, key -> new ArrayList<>()).addAll(subtypes));
+    }
+
+    private void addClassFile(InputStream input) {
+        ClassFile classFile;
+        try {
+            classFile = ClassFile.read(input);
+        } catch (IOException e) {
+            return; // Unreadable or unsupported class file, it cannot be matched anyway
+        }
+        var internalName = classFile.internalName();
+        String className;
+        if(classFile.declaringClassName().isPresent()) {
+            className = canonicalName(classFile.declaringClassName().get()) + "." + classFile.simpleName();
+        } else if(internalName.indexOf('$') == -1) {
+            className = canonicalName(internalName);
+        } else {
+            return; // Local or anonymous class
+        }
+
+        classFile.superName().ifPresent(superName -> addDirectSubtype(superName, className));
+        for(String interfaceName : classFile.interfaceNames()) {
+            addDirectSubtype(interfaceName, className);
+        }
+    }
+
+    private String canonicalName(String internalName) {
+        return internalName.replace('/', '.').replace('$', '.');
+    }
+
+    private void addDirectSubtype(String supertypeInternalName, String className) {
+        if(!supertypeInternalName.equals(OBJECT_INTERNAL_NAME)) {
+            directSubtypes.computeIfAbsent(canonicalName(supertypeInternalName), key -> new ArrayList<>())
+                .add(className);
+        }
+    }
+
+    private static final String OBJECT_INTERNAL_NAME = "java/lang/Object";
+
+    private void addDirectory(Path directory) throws IOException {
+        try(var files = Files.walk(directory)) {
+            for(Path file : (Iterable<Path>) files::iterator) {
+                if(Files.isRegularFile(file) && isIndexedClassFile(directory.relativize(file).toString())) {
+                    try(var input = new BufferedInputStream(Files.newInputStream(file))) {
+                        addClassFile(input);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isIndexedClassFile(String relativePath) {
+        return relativePath.endsWith(".class")
+                && !relativePath.endsWith("module-info.class")
+                && !relativePath.endsWith("package-info.class");
+    }
+
+    private void addJar(Path jar) throws IOException {
+        try(var zipFile = new ZipFile(jar.toFile())) {
+            var entries = zipFile.entries();
+            while(entries.hasMoreElements()) {
+                var entry = entries.nextElement();
+                if(!entry.isDirectory()
+                        && !entry.getName().startsWith("META-INF/")
+                        && isIndexedClassFile(entry.getName())) {
+                    try(var input = new BufferedInputStream(zipFile.getInputStream(entry))) {
+                        addClassFile(input);
+                    }
+                }
+            }
+        }
+    }
+
+    public void writeTo(Path file) throws IOException {
+        try(var output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeObject(this);
+        }
+    }
+
+    public static ClassPathSubtypeIndex readFrom(Path file) throws IOException {
+        try(var input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            input.setObjectInputFilter(INDEX_FILTER);
+            return (ClassPathSubtypeIndex) input.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Unable to read subtype index from " + file, e);
+        }
+    }
+
+    /**
+     * Map$Entry and Object are the element types of the arrays HashMap and ArrayList check against the filter while
+     * reading their elements, no instance of them is read.
+     */
+    private static final ObjectInputFilter INDEX_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=5;maxrefs=4000000;maxarray=4194304;maxbytes=268435456;"
+            + "poussecafe.source.analysis.ClassPathSubtypeIndex;java.util.HashMap;java.util.ArrayList;java.util.Map$Entry;"
+            + "java.lang.Object;java.lang.String;!*");
+
+    private String jarState;
+
+    private String jarContentHash;
+
+    /**
+     * Jar entries are indexed once per content and the result is cached when a cache directory is set. Directory
+     * entries, typically build output directories, are not cached and are scanned again by each build.
+     */
+    public static class Builder {
+
+        private ClassPathSubtypeIndex index = new ClassPathSubtypeIndex();
+
+        public ClassPathSubtypeIndex build() {
+            try {
+                if(cacheDirectory != null) {
+                    Files.createDirectories(cacheDirectory);
+                }
+                for(Path entry : classPath) {
+                    if(Files.isDirectory(entry)) {
+                        index.addDirectory(entry);
+                    } else if(Files.isRegularFile(entry)) {
+                        index.merge(jarIndex(entry));
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to build subtype index", e);
+            }
+            return index;
+        }
+
+        private ClassPathSubtypeIndex jarIndex(Path jar) throws IOException {
+            if(cacheDirectory == null) {
+                var jarIndex = new ClassPathSubtypeIndex();
+                jarIndex.addJar(jar);
+                return jarIndex;
+            }
+
+            var indexFile = cacheDirectory.resolve(hash(jar.toAbsolutePath().normalize().toString()) + INDEX_FILE_SUFFIX);
+            var jarState = jarState(jar);
+            String contentHash = null;
+            if(Files.exists(indexFile)) {
+                try {
+                    var cachedIndex = readFrom(indexFile);
+                    if(jarState.equals(cachedIndex.jarState)) {
+                        return cachedIndex;
+                    }
+                    contentHash = contentHash(jar);
+                    if(contentHash.equals(cachedIndex.jarContentHash)) {
+                        cachedIndex.jarState = jarState;
+                        writeAtomically(cachedIndex, indexFile);
+                        return cachedIndex;
+                    }
+                } catch (IOException e) {
+                    logger.warn("Dropping unreadable subtype index {}", indexFile, e);
+                }
+            }
+
+            var jarIndex = new ClassPathSubtypeIndex();
+            jarIndex.addJar(jar);
+            jarIndex.jarState = jarState;
+            jarIndex.jarContentHash = contentHash != null ? contentHash : contentHash(jar);
+            writeAtomically(jarIndex, indexFile);
+            return jarIndex;
+        }
+
+        private String jarState(Path jar) throws IOException {
+            var attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+            return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        }
+
+        private static final String INDEX_FILE_SUFFIX = ".subtypes";
+
+        private Logger logger = LoggerFactory.getLogger(getClass());
+
+        private String contentHash(Path file) throws IOException {
+            var digest = newDigest();
+            var buffer = new byte[BUFFER_SIZE];
+            try(var input = Files.newInputStream(file)) {
+                int read;
+                while((read = input.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return hex(digest.digest());
+        }
+
+        private String hash(String value) {
+            return hex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        private String hex(byte[] bytes) {
+            var hex = new StringBuilder();
+            for(byte b : bytes) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+                hex.append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        }
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not supported", e);
+            }
+        }
+
+        private void writeAtomically(ClassPathSubtypeIndex jarIndex, Path indexFile) {
+            Path temporaryFile = null;
+            try {
+                temporaryFile = Files.createTempFile(cacheDirectory, indexFile.getFileName().toString(), ".tmp");
+                jarIndex.writeTo(temporaryFile);
+                try {
+                    Files.move(temporaryFile, indexFile, StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                logger.warn("Unable to write subtype index {}", indexFile, e);
+                if(temporaryFile != null) {
+                    deleteIfExists(temporaryFile);
+                }
+            }
+        }
+
+        private void deleteIfExists(Path file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.debug("Unable to delete {}", file, e);
+            }
+        }
+
+        public Builder classPathEntry(Path entry) {
+            requireNonNull(entry);
+            classPath.add(entry);
+            return this;
+        }
+
+        public Builder classPath(List<Path> classPath) {
+            classPath.forEach(this::classPathEntry);
+            return this;
+        }
+
+        private List<Path> classPath = new ArrayList<>();
+
+        public Builder cacheDirectory(Path cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+            return this;
+        }
+
+        private Path cacheDirectory;
+    }
+
+    private ClassPathSubtypeIndex() {
+
+    }
+}
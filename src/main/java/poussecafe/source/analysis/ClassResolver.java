@@ -1,7 +1,19 @@
 package poussecafe.source.analysis;
 
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
 
 public abstract class ClassResolver {
 
@@ -14,22 +26,153 @@ public abstract class ClassResolver {
     }
 
     public Optional<ResolvedClass> loadInnerClass(ClassName rootClassName, List<String> path) {
+        var rootClass = lookupCache.get(rootClassName.toString(), this::findClassOrEmpty);
+        if(rootClass.isPresent()) {
+            return locateInnerClass(rootClass.get(), path);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ResolvedClass> findClassOrEmpty(String name) {
+        var result = findClass(name);
+        if(result.status() == ResolutionResult.Status.ERROR) {
+            logger.debug("Unable to load class {}", name, result.cause().orElseThrow());
+        }
+        return result.toOptional();
+    }
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    protected ResolutionResult findClass(String name) {
         try {
-            ResolvedClass rootClass = loadClass(rootClassName.toString());
-            return locateInnerClass(rootClass, path);
+            return ResolutionResult.resolved(loadClass(name));
         } catch (ClassNotFoundException e) {
-            return Optional.empty();
+            return ResolutionResult.notFound(name);
         }
     }
 
     protected abstract ResolvedClass loadClass(String name) throws ClassNotFoundException;
 
+    public ClassLookupCache lookupCache() {
+        return lookupCache;
+    }
+
+    public void lookupCache(ClassLookupCache lookupCache) {
+        requireNonNull(lookupCache);
+        this.lookupCache = lookupCache;
+    }
+
+    private ClassLookupCache lookupCache = new ClassLookupCache();
+
+    public Optional<ClassPathPackageIndex> packageIndex() {
+        return Optional.ofNullable(packageIndex);
+    }
+
+    public void packageIndex(ClassPathPackageIndex packageIndex) {
+        this.packageIndex = packageIndex;
+        packageIndexAuthoritative = packageIndex != null
+                && classPath().map(packageIndex::coversExactly).orElse(false);
+        if(packageIndex != null && !packageIndexAuthoritative) {
+            logger.warn("Package index does not cover exactly the class path of {}, ignoring it",
+                    getClass().getSimpleName());
+        }
+    }
+
+    private ClassPathPackageIndex packageIndex;
+
+    private boolean packageIndexAuthoritative;
+
+    public void refreshPackageIndex() {
+        if(packageIndex != null) {
+            packageIndex.refreshFreshness();
+        }
+    }
+
+    public boolean isPackageIndexAuthoritative() {
+        return packageIndexAuthoritative;
+    }
+
+    /**
+     * @return The class path entries searched by this resolver in addition to the Java runtime, or empty if they are
+     * not known. A package index is only trusted when it covers exactly these entries.
+     */
+    public Optional<List<Path>> classPath() {
+        return Optional.empty();
+    }
+
+    static Optional<List<Path>> classPathOf(ClassLoader classLoader) {
+        var classPath = new ArrayList<Path>();
+        var currentLoader = classLoader;
+        while(currentLoader != null && currentLoader != ClassLoader.getPlatformClassLoader()) {
+            if(currentLoader == ClassLoader.getSystemClassLoader()) {
+                addSystemClassPath(classPath);
+            } else if(currentLoader instanceof URLClassLoader) {
+                if(!addUrls(classPath, ((URLClassLoader) currentLoader).getURLs())) {
+                    return Optional.empty();
+                }
+            } else {
+                return Optional.empty();
+            }
+            currentLoader = currentLoader.getParent();
+        }
+        return Optional.of(classPath);
+    }
+
+    private static void addSystemClassPath(List<Path> classPath) {
+        for(String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            if(!entry.isEmpty()) {
+                classPath.add(Path.of(entry));
+            }
+        }
+    }
+
+    private static boolean addUrls(List<Path> classPath, URL[] urls) {
+        for(URL url : urls) {
+            if(!url.getProtocol().equals("file")) {
+                return false;
+            }
+            try {
+                classPath.add(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean mayContain(String packageName, String simpleName) {
+        return !packageIndexAuthoritative
+                || !packageIndex.indexes(packageName)
+                || packageIndex.contains(packageName, simpleName);
+    }
+
+    public long roleSignature(ResolvedClass resolvedClass) {
+        var className = resolvedClass.name().qualified();
+        var signature = roleSignatures.get(className);
+        if(signature == null) {
+            signature = FrameworkRole.signatureOf(resolvedClass);
+            roleSignatures.putIfAbsent(className, signature);
+        }
+        return signature;
+    }
+
+    private Map<String, Long> roleSignatures = new ConcurrentHashMap<>();
+
+    public void invalidate() {
+        lookupCache.invalidate();
+        roleSignatures.clear();
+    }
+
+    public void invalidate(String qualifiedName) {
+        lookupCache.invalidate(qualifiedName);
+        roleSignatures.remove(qualifiedName);
+    }
+
     public Optional<ResolvedClass> locateInnerClass(ResolvedClass rootClass, List<String> path) {
         ResolvedClass containerClass = rootClass;
         for(String name : path) {
-            var classForName = containerClass.innerClasses().stream()
-                    .filter(declaredClass -> declaredClass.name().simple().equals(name))
-                    .findFirst();
+            var classForName = containerClass.innerClass(name);
             if(classForName.isEmpty()) {
                 return Optional.empty();
             } else {
@@ -1,16 +1,19 @@
 package poussecafe.source.analysis;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.SimpleType;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +40,7 @@ import poussecafe.domain.ValueObject;
 import poussecafe.environment.AggregateMessageListenerRunner;
 import poussecafe.messaging.Message;
 import poussecafe.runtime.Command;
+import poussecafe.source.metrics.PipelineMetrics;
 
 import static java.util.Objects.requireNonNull;
 
@@ -60,10 +64,6 @@ public class CompilationUnitResolver implements Resolver {
         return classResolver;
     }
 
-    private ResolutionException newResolutionException(String className) {
-        return new ResolutionException("Unable to load class " + className);
-    }
-
     private void registerCompilationUnitTypes() {
         var type = compilationUnit.types().get(0);
         if(type instanceof TypeDeclaration) {
@@ -72,7 +72,7 @@ public class CompilationUnitResolver implements Resolver {
             var packageName = compilationUnit.getPackage().getName().getFullyQualifiedName();
             var rootTypeName = new ClassName(packageName, rootTypeSimpleName);
             resolvedTypeNames.put(rootTypeSimpleName,
-                    new LazyResolver(rootTypeSimpleName, () -> Optional.of(resolveFullyQualifiedName(rootTypeName))));
+                    new LazyResolver(rootTypeSimpleName, () -> resolveFullyQualifiedName(rootTypeName)));
             registerInnerClasses(rootType);
         }
     }
@@ -95,9 +95,9 @@ public class CompilationUnitResolver implements Resolver {
                         () -> classResolver.loadInnerClass(rootClassName, innerClassPath)));
     }
 
-    private Map<String, LazyResolver> importedClasses = new HashMap<>();
+    private Map<String, LazyResolver> importedClasses = new ConcurrentHashMap<>();
 
-    private Map<String, LazyResolver> resolvedTypeNames = new HashMap<>();
+    private Map<String, LazyResolver> resolvedTypeNames = new ConcurrentHashMap<>();
 
     public void tryRegister(ImportDeclaration importDeclaration) {
         if(!importDeclaration.isStatic()) {
@@ -114,20 +114,29 @@ public class CompilationUnitResolver implements Resolver {
         importedPackages.add(packageName);
     }
 
-    private List<String> importedPackages = new ArrayList<>();
+    private List<String> importedPackages = new CopyOnWriteArrayList<>();
 
     private void tryRegisterSingleTypeImport(ImportDeclaration importDeclaration) {
         var fullyQualifiedName = new ClassName(importDeclaration.getName().getFullyQualifiedName());
+        singleTypeImports.put(fullyQualifiedName.simple(), fullyQualifiedName);
         registerClass(fullyQualifiedName, new LazyResolver(fullyQualifiedName.toString(),
-                () -> Optional.of(resolveFullyQualifiedName(fullyQualifiedName))));
+                () -> resolveFullyQualifiedName(fullyQualifiedName)));
+    }
+
+    @Override
+    public Optional<ClassName> importedClassName(String simpleName) {
+        return Optional.ofNullable(singleTypeImports.get(simpleName));
     }
 
+    private Map<String, ClassName> singleTypeImports = new ConcurrentHashMap<>();
+
     private void registerClass(ClassName className, LazyResolver resolver) {
         importedClasses.put(className.toString(), resolver);
         resolvedTypeNames.put(className.getIdentifier().toString(), resolver);
     }
 
     private ResolvedTypeName resolvedTypeName(ResolvedClass resolvedClass) {
+        recordReference(resolvedClass);
         return new ResolvedTypeName.Builder()
             .withResolver(this)
             .withName(resolvedClass.name().getIdentifier())
@@ -137,44 +146,87 @@ public class CompilationUnitResolver implements Resolver {
 
     @Override
     public ResolvedTypeName resolve(ClassName name) {
+        return resolvedTypeName(tryResolve(name).orElseThrow());
+    }
+
+    @Override
+    public ResolvedTypeName resolve(SimpleType simpleType) {
+        var resolvedClass = boundClass(simpleType);
+        if(resolvedClass.isPresent()) {
+            metrics.recordResolution(true);
+            return resolvedTypeName(resolvedClass.get());
+        } else {
+            return resolve(new ClassName(simpleType.getName()));
+        }
+    }
+
+    private Optional<ResolvedClass> boundClass(SimpleType simpleType) {
+        if(classResolver instanceof BindingClassResolver) {
+            return ((BindingClassResolver) classResolver).loadClass(simpleType.resolveBinding());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private ResolutionResult tryResolve(ClassName name) {
         if(name.isQualifiedName()) {
-            return resolvedTypeName(resolveFullyQualifiedName(name));
+            metrics.recordResolution(false);
+            return ResolutionResult.of(name.toString(), resolveFullyQualifiedName(name));
         } else {
             var simpleName = name.toString();
             var resolver = resolvedTypeNames.get(simpleName);
+            metrics.recordResolution(resolver != null);
             Optional<ResolvedClass> resolvedClass;
             if(resolver != null) {
                 resolvedClass = resolver.resolve();
             } else {
                 resolvedClass = resolveSimpleName(name);
                 if(resolvedClass.isPresent()) {
-                    resolvedTypeNames.put(simpleName, new LazyResolver(simpleName, () -> resolvedClass));
+                    resolvedTypeNames.putIfAbsent(simpleName, new LazyResolver(simpleName, () -> resolvedClass));
                 }
             }
-            return resolvedClass.map(this::resolvedTypeName)
-                    .orElseThrow(() -> newResolutionException(name.toString()));
+            return ResolutionResult.of(simpleName, resolvedClass);
         }
     }
 
-    private ResolvedClass resolveFullyQualifiedName(ClassName name) {
+    private PipelineMetrics metrics;
+
+    private void recordReference(ResolvedClass resolvedClass) {
+        Optional<ResolvedClass> currentClass = Optional.of(resolvedClass);
+        while(currentClass.isPresent()) {
+            referencedClassNames.add(currentClass.get().name().qualified());
+            currentClass = currentClass.get().declaringClass();
+        }
+    }
+
+    private Set<String> referencedClassNames = ConcurrentHashMap.newKeySet();
+
+    public Set<String> referencedClassNames() {
+        return Collections.unmodifiableSet(referencedClassNames);
+    }
+
+    private Optional<ResolvedClass> resolveFullyQualifiedName(ClassName name) {
+        referencedClassNames.add(name.qualified());
+        referencedClassNames.add(innerClassName(name).rootClassName().qualified());
         Optional<ResolvedClass> resolvedClass = tryNamingConventionBasedResolution(name);
         if(resolvedClass.isEmpty()) {
             logger.debug("Naming convention resolution failed for {}, falling back on generic method", name);
-            resolvedClass = classResolver.loadClass(name);
-        }
-        if(resolvedClass.isPresent()) {
-            return resolvedClass.get();
-        } else {
-            return resolvePartiallyQualifiedName(name);
+            resolvedClass = loadClass(name);
         }
+        return resolvedClass.or(() -> resolvePartiallyQualifiedName(name));
     }
 
     private Logger logger = LoggerFactory.getLogger(getClass());
 
+    private Optional<ResolvedClass> loadClass(ClassName name) {
+        metrics.recordClassLookup();
+        return classResolver.loadClass(name);
+    }
+
     private Optional<ResolvedClass> tryNamingConventionBasedResolution(ClassName name) {
         var innerClassName = innerClassName(name);
         if(innerClassName.rootClassName().isQualifiedName()) {
-            return classResolver.loadClass(innerClassName);
+            return loadClass(innerClassName);
         } else if(!innerClassName.rootClassName().isQualifiedName()) {
             var rootClass = resolveSimpleName(innerClassName.rootClassName());
             if(rootClass.isPresent()) {
@@ -218,7 +270,7 @@ public class CompilationUnitResolver implements Resolver {
         }
     }
 
-    private ResolvedClass resolvePartiallyQualifiedName(ClassName name) {
+    private Optional<ResolvedClass> resolvePartiallyQualifiedName(ClassName name) {
         if(!name.isQualifiedName()) {
             throw new IllegalArgumentException();
         }
@@ -234,13 +286,12 @@ public class CompilationUnitResolver implements Resolver {
             var resolvedTypeName = resolveSimpleName(new ClassName(simpleName));
             if(resolvedTypeName.isPresent()) {
                 return classResolver.loadInnerClass(new ClassName(resolvedTypeName.get().name().qualified()),
-                            innerClassPath)
-                        .orElseThrow(() -> newResolutionException(name.toString()));
+                            innerClassPath);
             } else {
                 innerClassPath.addFirst(simpleName);
             }
         }
-        throw new ResolutionException("Unable to resolve " + name);
+        return Optional.empty();
     }
 
     private Optional<ResolvedClass> resolveSimpleName(ClassName simpleName) {
@@ -311,8 +362,13 @@ public class CompilationUnitResolver implements Resolver {
         } else {
             candidateQualifiedName = new ClassName(packageName + "." + simpleName);
         }
+        referencedClassNames.add(candidateQualifiedName.qualified());
 
-        return classResolver.loadClass(candidateQualifiedName);
+        if(classResolver.mayContain(packageName, simpleName.simple())) {
+            return loadClass(candidateQualifiedName);
+        } else {
+            return Optional.empty();
+        }
     }
 
     public static final String AGGREGATE_ROOT_CLASS = AggregateRoot.class.getCanonicalName();
@@ -368,12 +424,20 @@ public class CompilationUnitResolver implements Resolver {
         public CompilationUnitResolver build() {
             requireNonNull(resolver.compilationUnit);
             requireNonNull(resolver.classResolver);
+            if(resolver.metrics == null) {
+                resolver.metrics = new PipelineMetrics();
+            }
             resolver.init();
             return resolver;
         }
 
         private CompilationUnitResolver resolver = new CompilationUnitResolver();
 
+        public Builder metrics(PipelineMetrics metrics) {
+            resolver.metrics = metrics;
+            return this;
+        }
+
         public Builder compilationUnit(CompilationUnit compilationUnit) {
             resolver.compilationUnit = compilationUnit;
             return this;
@@ -0,0 +1,80 @@
+package poussecafe.source.analysis;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+public class ComponentClassification {
+
+    public Set<ComponentKind> kinds() {
+        return Collections.unmodifiableSet(kinds);
+    }
+
+    private EnumSet<ComponentKind> kinds = EnumSet.noneOf(ComponentKind.class);
+
+    public boolean is(ComponentKind kind) {
+        return kinds.contains(kind);
+    }
+
+    public boolean isMessageListenerContainer() {
+        return is(ComponentKind.AGGREGATE_ROOT)
+                || is(ComponentKind.FACTORY)
+                || is(ComponentKind.REPOSITORY)
+                || is(ComponentKind.AGGREGATE_CONTAINER);
+    }
+
+    public Optional<ResolvedAnnotation> annotation(String annotationClassName) {
+        return Optional.ofNullable(annotations.get(annotationClassName));
+    }
+
+    private Map<String, ResolvedAnnotation> annotations = new HashMap<>();
+
+    public Optional<String> aggregateName() {
+        if(aggregateName == null) {
+            aggregateName = aggregateNameSupplier.get();
+        }
+        return aggregateName;
+    }
+
+    private Optional<String> aggregateName;
+
+    private Supplier<Optional<String>> aggregateNameSupplier = Optional::empty;
+
+    public static class Builder {
+
+        private ComponentClassification classification = new ComponentClassification();
+
+        public ComponentClassification build() {
+            return classification;
+        }
+
+        public Builder kind(ComponentKind kind) {
+            requireNonNull(kind);
+            classification.kinds.add(kind);
+            return this;
+        }
+
+        public Builder annotation(String annotationClassName, ResolvedAnnotation annotation) {
+            requireNonNull(annotationClassName);
+            requireNonNull(annotation);
+            classification.annotations.put(annotationClassName, annotation);
+            return this;
+        }
+
+        public Builder aggregateName(Supplier<Optional<String>> aggregateNameSupplier) {
+            requireNonNull(aggregateNameSupplier);
+            classification.aggregateNameSupplier = aggregateNameSupplier;
+            return this;
+        }
+    }
+
+    private ComponentClassification() {
+
+    }
+}
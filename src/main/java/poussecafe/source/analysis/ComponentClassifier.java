@@ -0,0 +1,98 @@
+package poussecafe.source.analysis;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class ComponentClassifier {
+
+    public static ComponentClassification classify(ResolvedTypeDeclaration type) {
+        var builder = new ComponentClassification.Builder();
+        var annotatedElement = type.asAnnotatedElement();
+        for(String annotationClassName : TYPE_ANNOTATIONS) {
+            var annotation = annotatedElement.findAnnotation(annotationClassName);
+            if(annotation.isPresent()) {
+                builder.annotation(annotationClassName, annotation.get());
+                var annotatedKind = ANNOTATED_KINDS.get(annotationClassName);
+                if(annotatedKind != null) {
+                    builder.kind(annotatedKind);
+                }
+            }
+        }
+
+        if(AggregateRootClass.isAggregateRoot(type)) {
+            builder.kind(ComponentKind.AGGREGATE_ROOT);
+        }
+        if(FactoryClass.isFactory(type)) {
+            builder.kind(ComponentKind.FACTORY);
+        }
+        if(RepositoryClass.isRepository(type)) {
+            builder.kind(ComponentKind.REPOSITORY);
+        }
+        if(ProcessDefinitionType.isProcessDefinition(type)) {
+            builder.kind(ComponentKind.PROCESS_DEFINITION);
+        }
+        if(RunnerClass.isRunner(type)) {
+            builder.kind(ComponentKind.RUNNER);
+        }
+        if(ModuleClass.isModule(type)) {
+            builder.kind(ComponentKind.MODULE);
+        }
+        if(EntityDefinitionType.isEntityDefinition(type)) {
+            builder.kind(ComponentKind.ENTITY_DEFINITION);
+        }
+        if(EntityClass.isEntity(type)) {
+            builder.kind(ComponentKind.ENTITY);
+        }
+        if(ValueObjectClass.isValueObject(type)) {
+            builder.kind(ComponentKind.VALUE_OBJECT);
+        }
+        if(ServiceClass.isService(type)) {
+            builder.kind(ComponentKind.SERVICE);
+        }
+        if(MessageDefinitionType.isMessageDefinition(type)) {
+            builder.kind(ComponentKind.MESSAGE_DEFINITION);
+        }
+        if(EntityImplementationType.isEntityImplementation(type)) {
+            builder.kind(ComponentKind.ENTITY_IMPLEMENTATION);
+        }
+        return builder
+                .aggregateName(() -> aggregateName(type))
+                .build();
+    }
+
+    private static Optional<String> aggregateName(ResolvedTypeDeclaration type) {
+        var classification = type.classification();
+        if(classification.is(ComponentKind.AGGREGATE_ROOT)) {
+            return Optional.of(type.isInnerClass() ? declaringTypeName(type) : new AggregateRootClass(type).aggregateName());
+        } else if(classification.is(ComponentKind.FACTORY)) {
+            return Optional.of(type.isInnerClass() ? declaringTypeName(type) : new FactoryClass(type).aggregateName());
+        } else if(classification.is(ComponentKind.REPOSITORY)) {
+            return Optional.of(type.isInnerClass() ? declaringTypeName(type) : new RepositoryClass(type).aggregateName());
+        } else if(classification.is(ComponentKind.AGGREGATE_CONTAINER)) {
+            return Optional.of(type.unresolvedName().simpleName());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static String declaringTypeName(ResolvedTypeDeclaration type) {
+        return type.declaringType().orElseThrow().typeDeclaration().getName().getIdentifier();
+    }
+
+    private static final List<String> TYPE_ANNOTATIONS = List.of(
+            CompilationUnitResolver.AGGREGATE_ANNOTATION_CLASS,
+            CompilationUnitResolver.MESSAGE_IMPLEMENTATION_ANNOTATION_CLASS,
+            CompilationUnitResolver.ABSTRACT_MESSAGE_ANNOTATION_CLASS,
+            CompilationUnitResolver.DATA_IMPLEMENTATION_ANNOTATION_CLASS,
+            CompilationUnitResolver.DATA_ACCESS_IMPLEMENTATION_ANNOTATION_CLASS);
+
+    private static final Map<String, ComponentKind> ANNOTATED_KINDS = Map.of(
+            CompilationUnitResolver.AGGREGATE_ANNOTATION_CLASS, ComponentKind.AGGREGATE_CONTAINER,
+            CompilationUnitResolver.MESSAGE_IMPLEMENTATION_ANNOTATION_CLASS, ComponentKind.MESSAGE_IMPLEMENTATION,
+            CompilationUnitResolver.DATA_ACCESS_IMPLEMENTATION_ANNOTATION_CLASS, ComponentKind.DATA_ACCESS_IMPLEMENTATION);
+
+    private ComponentClassifier() {
+
+    }
+}
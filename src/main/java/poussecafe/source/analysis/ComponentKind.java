@@ -0,0 +1,19 @@
+package poussecafe.source.analysis;
+
+public enum ComponentKind {
+    AGGREGATE_ROOT,
+    FACTORY,
+    REPOSITORY,
+    AGGREGATE_CONTAINER,
+    PROCESS_DEFINITION,
+    RUNNER,
+    MODULE,
+    ENTITY_DEFINITION,
+    ENTITY,
+    VALUE_OBJECT,
+    SERVICE,
+    MESSAGE_DEFINITION,
+    MESSAGE_IMPLEMENTATION,
+    ENTITY_IMPLEMENTATION,
+    DATA_ACCESS_IMPLEMENTATION
+}
@@ -3,12 +3,11 @@ package poussecafe.source.analysis;
 public class DataAccessImplementationType {
 
     public static boolean isDataAccessImplementation(ResolvedTypeDeclaration type) {
-        return type.asAnnotatedElement().findAnnotation(
-                CompilationUnitResolver.DATA_ACCESS_IMPLEMENTATION_ANNOTATION_CLASS).isPresent();
+        return type.classification().is(ComponentKind.DATA_ACCESS_IMPLEMENTATION);
     }
 
     public ResolvedTypeName aggregateRoot() {
-        var annotation = type.asAnnotatedElement().findAnnotation(
+        var annotation = type.classification().annotation(
                 CompilationUnitResolver.DATA_ACCESS_IMPLEMENTATION_ANNOTATION_CLASS).orElseThrow();
         return annotation.attribute("aggregateRoot").orElseThrow().asType();
     }
@@ -16,13 +15,13 @@ public class DataAccessImplementationType {
     private ResolvedTypeDeclaration type;
 
     public ResolvedTypeName dataImplementation() {
-        var annotation = type.asAnnotatedElement().findAnnotation(
+        var annotation = type.classification().annotation(
                 CompilationUnitResolver.DATA_ACCESS_IMPLEMENTATION_ANNOTATION_CLASS).orElseThrow();
         return annotation.attribute("dataImplementation").orElseThrow().asType();
     }
 
     public String storageName() {
-        var annotation = type.asAnnotatedElement().findAnnotation(
+        var annotation = type.classification().annotation(
                 CompilationUnitResolver.DATA_ACCESS_IMPLEMENTATION_ANNOTATION_CLASS).orElseThrow();
         var value = annotation.attribute("storageName").orElseThrow();
         if(value.isStringLiteral()) {
@@ -0,0 +1,68 @@
+package poussecafe.source.analysis;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public enum FrameworkRole {
+    AGGREGATE_ROOT(CompilationUnitResolver.AGGREGATE_ROOT_CLASS),
+    PROCESS(CompilationUnitResolver.PROCESS_INTERFACE),
+    FACTORY(CompilationUnitResolver.FACTORY_CLASS),
+    DEPRECATED_FACTORY(CompilationUnitResolver.DEPRECATED_FACTORY_CLASS),
+    REPOSITORY(CompilationUnitResolver.REPOSITORY_CLASS),
+    DEPRECATED_REPOSITORY(CompilationUnitResolver.DEPRECATED_REPOSITORY_CLASS),
+    MESSAGE(CompilationUnitResolver.MESSAGE_CLASS),
+    DOMAIN_EVENT(CompilationUnitResolver.DOMAIN_EVENT_INTERFACE),
+    COMMAND(CompilationUnitResolver.COMMAND_INTERFACE),
+    ENTITY(CompilationUnitResolver.ENTITY_CLASS),
+    ENTITY_ATTRIBUTES(CompilationUnitResolver.ENTITY_ATTRIBUTES_INTERFACE),
+    DATA_ACCESS(CompilationUnitResolver.DATA_ACCESS_INTERFACE),
+    AGGREGATE_MESSAGE_LISTENER_RUNNER(CompilationUnitResolver.AGGREGATE_MESSAGE_LISTENER_RUNNER_INTERFACE),
+    MODULE(CompilationUnitResolver.MODULE_INTERFACE),
+    VALUE_OBJECT(CompilationUnitResolver.VALUE_OBJECT_INTERFACE),
+    ENTITY_MAP_ATTRIBUTE(CompilationUnitResolver.ENTITY_MAP_ATTRIBUTE_INTERFACE),
+    SERVICE(CompilationUnitResolver.SERVICE_INTERFACE),
+    COLLECTION(Collection.class.getCanonicalName()),
+    OPTIONAL(Optional.class.getCanonicalName()),
+    ENUM(Enum.class.getCanonicalName());
+
+    FrameworkRole(String className) {
+        this.className = className;
+    }
+
+    private String className;
+
+    public String className() {
+        return className;
+    }
+
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    public boolean isIn(long signature) {
+        return (signature & mask()) != 0;
+    }
+
+    public static Optional<FrameworkRole> ofClassName(String className) {
+        return Optional.ofNullable(ROLES_BY_CLASS_NAME.get(className));
+    }
+
+    private static final Map<String, FrameworkRole> ROLES_BY_CLASS_NAME = new HashMap<>();
+    static {
+        for(FrameworkRole role : values()) {
+            ROLES_BY_CLASS_NAME.put(role.className, role);
+        }
+    }
+
+    public static long signatureOf(ResolvedClass resolvedClass) {
+        long signature = 0;
+        for(FrameworkRole role : values()) {
+            if(resolvedClass.subtypeOf(role.className)) {
+                signature |= role.mask();
+            }
+        }
+        return signature;
+    }
+}
@@ -1,9 +1,11 @@
 package poussecafe.source.analysis;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import static java.util.Objects.requireNonNull;
 
@@ -19,33 +21,40 @@ public class LazyResolver {
 
     private String name;
 
-    public synchronized Optional<ResolvedClass> resolve() {
-        if(resolving) {
-            throw new IllegalStateException("Resolution is looping for name " + name);
+    public Optional<ResolvedClass> resolve() {
+        return result().toOptional();
+    }
+
+    public ResolutionResult result() {
+        var result = resolutionResult.get();
+        if(result != null) {
+            return result;
+        }
+
+        var resolvingInCurrentThread = RESOLVING.get();
+        if(!resolvingInCurrentThread.add(this)) {
+            throw new ResolutionException("Resolution is looping for name " + name);
         }
-        if(!resolved) {
-            try {
-                resolving = true;
-                resolvedTypeName = resolver.get();
-                resolved = true;
-            } catch(Exception e) {
-                logger.debug("Unable to lazy resolve", e);
-                resolvedTypeName = Optional.empty();
-                resolved = true;
-            } finally {
-                resolving = false;
-            }
+        try {
+            resolutionResult.compareAndSet(null, tryResolve());
+            return resolutionResult.get();
+        } finally {
+            resolvingInCurrentThread.remove(this);
         }
-        return resolvedTypeName;
     }
 
-    private Logger logger = LoggerFactory.getLogger(getClass());
+    private static final ThreadLocal<Set<LazyResolver>> RESOLVING = ThreadLocal.withInitial(
+            () -> Collections.newSetFromMap(new IdentityHashMap<>()));
 
-    private boolean resolving;
-
-    private boolean resolved;
+    private ResolutionResult tryResolve() {
+        try {
+            return ResolutionResult.of(name, resolver.get());
+        } catch(ResolutionException e) {
+            return ResolutionResult.error(name, e);
+        }
+    }
 
-    private Optional<ResolvedClass> resolvedTypeName;
+    private AtomicReference<ResolutionResult> resolutionResult = new AtomicReference<>();
 
     private Supplier<Optional<ResolvedClass>> resolver;
 }
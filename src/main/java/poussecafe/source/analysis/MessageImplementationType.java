@@ -7,12 +7,11 @@ import static java.util.Collections.emptyList;
 public class MessageImplementationType {
 
     public static boolean isMessageImplementation(ResolvedTypeDeclaration type) {
-        return type.asAnnotatedElement().findAnnotation(
-                CompilationUnitResolver.MESSAGE_IMPLEMENTATION_ANNOTATION_CLASS).isPresent();
+        return type.classification().is(ComponentKind.MESSAGE_IMPLEMENTATION);
     }
 
     public ResolvedTypeName messageName() {
-        var annotation = type.asAnnotatedElement().findAnnotation(
+        var annotation = type.classification().annotation(
                 CompilationUnitResolver.MESSAGE_IMPLEMENTATION_ANNOTATION_CLASS).orElseThrow();
         return annotation.attribute("message").orElseThrow().asType();
     }
@@ -20,7 +19,7 @@ public class MessageImplementationType {
     private ResolvedTypeDeclaration type;
 
     public List<String> messagingNames() {
-        var annotation = type.asAnnotatedElement().findAnnotation(
+        var annotation = type.classification().annotation(
                 CompilationUnitResolver.MESSAGE_IMPLEMENTATION_ANNOTATION_CLASS);
         if(annotation.isPresent()) {
             var attribute = annotation.get().attribute("messagingNames");
@@ -15,10 +15,7 @@ public class MessageListenerMethod implements Documented {
     }
 
     public static boolean isMessageListenerMethodContainer(ResolvedTypeDeclaration resolvedTypeDeclaration) {
-        return AggregateRootClass.isAggregateRoot(resolvedTypeDeclaration)
-                || FactoryClass.isFactory(resolvedTypeDeclaration)
-                || RepositoryClass.isRepository(resolvedTypeDeclaration)
-                || AggregateContainerClass.isAggregateContainerClass(resolvedTypeDeclaration);
+        return resolvedTypeDeclaration.classification().isMessageListenerContainer();
     }
 
     public MessageListenerMethod(ResolvedMethod method) {
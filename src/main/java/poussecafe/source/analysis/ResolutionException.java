@@ -17,4 +17,8 @@ public class ResolutionException extends RuntimeException {
     public ResolutionException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    public ResolutionException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,89 @@
+package poussecafe.source.analysis;
+
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+public class ResolutionResult {
+
+    public static ResolutionResult resolved(ResolvedClass resolvedClass) {
+        requireNonNull(resolvedClass);
+        var result = new ResolutionResult(Status.RESOLVED, resolvedClass.name().qualified());
+        result.resolvedClass = resolvedClass;
+        return result;
+    }
+
+    public static ResolutionResult notFound(String name) {
+        return new ResolutionResult(Status.NOT_FOUND, name);
+    }
+
+    public static ResolutionResult error(String name, Throwable cause) {
+        requireNonNull(cause);
+        var result = new ResolutionResult(Status.ERROR, name);
+        result.cause = cause;
+        return result;
+    }
+
+    public static ResolutionResult of(String name, Optional<ResolvedClass> resolvedClass) {
+        return resolvedClass.map(ResolutionResult::resolved).orElseGet(() -> notFound(name));
+    }
+
+    public enum Status {
+        RESOLVED,
+        NOT_FOUND,
+        ERROR
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    private Status status;
+
+    public String name() {
+        return name;
+    }
+
+    private String name;
+
+    public boolean isResolved() {
+        return status == Status.RESOLVED;
+    }
+
+    public ResolvedClass resolvedClass() {
+        if(!isResolved()) {
+            throw new IllegalStateException(name + " was not resolved");
+        }
+        return resolvedClass;
+    }
+
+    private ResolvedClass resolvedClass;
+
+    public Optional<ResolvedClass> toOptional() {
+        return Optional.ofNullable(resolvedClass);
+    }
+
+    public Optional<Throwable> cause() {
+        return Optional.ofNullable(cause);
+    }
+
+    private Throwable cause;
+
+    public ResolvedClass orElseThrow() {
+        if(status == Status.RESOLVED) {
+            return resolvedClass;
+        } else if(status == Status.NOT_FOUND) {
+            throw new ResolutionException("Unable to load class " + name, false);
+        } else {
+            throw new ResolutionException("Unable to load class " + name, cause);
+        }
+    }
+
+    private ResolutionResult(Status status, String name) {
+        requireNonNull(status);
+        this.status = status;
+
+        requireNonNull(name);
+        this.name = name;
+    }
+}
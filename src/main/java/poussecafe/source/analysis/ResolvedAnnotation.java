@@ -11,9 +11,28 @@ import static java.util.Objects.requireNonNull;
 public class ResolvedAnnotation {
 
     public boolean isClass(String annotationClass) {
-        return resolver.resolve(new ClassName(annotation.getTypeName())).isClass(annotationClass);
+        var writtenName = new ClassName(annotation.getTypeName());
+        if(!writtenName.simple().equals(new ClassName(annotationClass).simple())) {
+            return false;
+        }
+        if(writtenName.isSimpleName()) {
+            var importedName = resolver.importedClassName(writtenName.simple());
+            if(importedName.isPresent()) {
+                return importedName.get().qualified().equals(annotationClass);
+            }
+        }
+        return typeName().isClass(annotationClass);
     }
 
+    private ResolvedTypeName typeName() {
+        if(typeName == null) {
+            typeName = resolver.resolve(new ClassName(annotation.getTypeName()));
+        }
+        return typeName;
+    }
+
+    private ResolvedTypeName typeName;
+
     public Optional<ResolvedExpression> attribute(String attributeName) {
         if(annotation.isNormalAnnotation()) {
             NormalAnnotation normalAnnotation = (NormalAnnotation) annotation;
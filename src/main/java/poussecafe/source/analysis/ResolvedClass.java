@@ -10,8 +10,22 @@ public interface ResolvedClass {
 
     List<ResolvedClass> innerClasses();
 
+    default Optional<ResolvedClass> innerClass(String simpleName) {
+        return innerClasses().stream()
+                .filter(innerClass -> innerClass.name().simple().equals(simpleName))
+                .findFirst();
+    }
+
     boolean instanceOf(String supertype) throws ClassNotFoundException;
 
+    default boolean subtypeOf(String supertype) {
+        try {
+            return instanceOf(supertype);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     Optional<ResolvedClass> declaringClass();
 
     ClassResolver resolver();
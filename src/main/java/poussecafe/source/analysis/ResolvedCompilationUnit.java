@@ -16,9 +16,11 @@ public class ResolvedCompilationUnit {
     }
 
     public CompilationUnit compilationUnit() {
-        return sourceFile.compilationUnit();
+        return compilationUnit;
     }
 
+    private CompilationUnit compilationUnit;
+
     public String packageName() {
         return compilationUnit().getPackage().getName().getFullyQualifiedName();
     }
@@ -47,6 +49,7 @@ public class ResolvedCompilationUnit {
         public ResolvedCompilationUnit build() {
             requireNonNull(resolvedCompilationUnit.resolver);
             requireNonNull(resolvedCompilationUnit.sourceFile);
+            requireNonNull(resolvedCompilationUnit.compilationUnit);
             return resolvedCompilationUnit;
         }
 
@@ -59,6 +62,11 @@ public class ResolvedCompilationUnit {
             resolvedCompilationUnit.sourceFile = sourceFile;
             return this;
         }
+
+        public Builder withCompilationUnit(CompilationUnit compilationUnit) {
+            resolvedCompilationUnit.compilationUnit = compilationUnit;
+            return this;
+        }
     }
 
     private ResolvedCompilationUnit() {
@@ -2,6 +2,10 @@ package poussecafe.source.analysis;
 
 public interface ResolvedCompilationUnitVisitor {
 
+    default VisitorInterests interests() {
+        return VisitorInterests.all();
+    }
+
     default boolean visit(ResolvedCompilationUnit unit) {
         return false;
     }
@@ -25,12 +25,17 @@ public class ResolvedEnumDeclaration {
     private EnumDeclaration declaration;
 
     public AnnotatedElement<EnumDeclaration> asAnnotatedElement() {
-        return new AnnotatedElement.Builder<EnumDeclaration>()
-                .withElement(declaration)
-                .withResolver(resolver)
-                .build();
+        if(annotatedElement == null) {
+            annotatedElement = new AnnotatedElement.Builder<EnumDeclaration>()
+                    .withElement(declaration)
+                    .withResolver(resolver)
+                    .build();
+        }
+        return annotatedElement;
     }
 
+    private AnnotatedElement<EnumDeclaration> annotatedElement;
+
     private CompilationUnitResolver resolver;
 
     public static class Builder {
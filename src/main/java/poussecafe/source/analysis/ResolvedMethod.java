@@ -14,12 +14,17 @@ import static java.util.Objects.requireNonNull;
 public class ResolvedMethod implements Documented {
 
     public AnnotatedElement<MethodDeclaration> asAnnotatedElement() {
-        return new AnnotatedElement.Builder<MethodDeclaration>()
-                .withResolver(resolver)
-                .withElement(declaration)
-                .build();
+        if(annotatedElement == null) {
+            annotatedElement = new AnnotatedElement.Builder<MethodDeclaration>()
+                    .withResolver(resolver)
+                    .withElement(declaration)
+                    .build();
+        }
+        return annotatedElement;
     }
 
+    private AnnotatedElement<MethodDeclaration> annotatedElement;
+
     private Resolver resolver;
 
     private MethodDeclaration declaration;
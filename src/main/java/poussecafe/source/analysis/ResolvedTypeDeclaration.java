@@ -1,7 +1,9 @@
 package poussecafe.source.analysis;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.eclipse.jdt.core.dom.ParameterizedType;
 import org.eclipse.jdt.core.dom.SimpleType;
@@ -12,14 +14,19 @@ import poussecafe.source.model.Documented;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 public class ResolvedTypeDeclaration implements Documented {
 
     public Optional<ResolvedTypeName> superclass() {
-        Type type = declaration.getSuperclassType();
-        return typeName(type);
+        if(superclass == null) {
+            superclass = typeName(declaration.getSuperclassType());
+        }
+        return superclass;
     }
 
+    private Optional<ResolvedTypeName> superclass; // NOSONAR
+
     private Optional<ResolvedTypeName> typeName(Type type) {
         if(type == null) {
             return Optional.empty();
@@ -42,6 +49,10 @@ public class ResolvedTypeDeclaration implements Documented {
 
     private TypeDeclarationResolver resolver;
 
+    TypeDeclarationResolver resolver() {
+        return resolver;
+    }
+
     public ResolvedTypeName name() {
         if(resolvedName == null) {
             var resolvedClass = resolver.classResolver().loadClass(unresolvedName());
@@ -57,8 +68,7 @@ public class ResolvedTypeDeclaration implements Documented {
     private ResolvedTypeName resolvedName;
 
     public boolean implementsInterface(String interfaceClass) {
-        for(Object object : declaration.superInterfaceTypes()) {
-            Optional<ResolvedTypeName> typeName = typeName((Type) object);
+        for(Optional<ResolvedTypeName> typeName : superInterfaceNames()) {
             if(typeName.isPresent() && typeName.get().isClass(interfaceClass)) {
                 return true;
             }
@@ -66,13 +76,30 @@ public class ResolvedTypeDeclaration implements Documented {
         return false;
     }
 
+    @SuppressWarnings("unchecked")
+    private List<Optional<ResolvedTypeName>> superInterfaceNames() {
+        if(superInterfaceNames == null) {
+            superInterfaceNames = ((List<Type>) declaration.superInterfaceTypes()).stream()
+                    .map(this::typeName)
+                    .collect(toList());
+        }
+        return superInterfaceNames;
+    }
+
+    private List<Optional<ResolvedTypeName>> superInterfaceNames;
+
     public AnnotatedElement<TypeDeclaration> asAnnotatedElement() {
-        return new AnnotatedElement.Builder<TypeDeclaration>()
-                .withElement(declaration)
-                .withResolver(resolver)
-                .build();
+        if(annotatedElement == null) {
+            annotatedElement = new AnnotatedElement.Builder<TypeDeclaration>()
+                    .withElement(declaration)
+                    .withResolver(resolver)
+                    .build();
+        }
+        return annotatedElement;
     }
 
+    private AnnotatedElement<TypeDeclaration> annotatedElement;
+
     public TypeDeclaration typeDeclaration() {
         return declaration;
     }
@@ -118,17 +145,36 @@ public class ResolvedTypeDeclaration implements Documented {
 
     @SuppressWarnings("unchecked")
     public List<ResolvedType> superInterfaceTypes() {
-        return ((List<Type>) declaration.superInterfaceTypes()).stream()
-                .map(this::resolveType)
-                .collect(toList());
+        if(superInterfaceTypes == null) {
+            superInterfaceTypes = ((List<Type>) declaration.superInterfaceTypes()).stream()
+                    .map(this::resolveType)
+                    .collect(toUnmodifiableList());
+        }
+        return superInterfaceTypes;
     }
 
+    private List<ResolvedType> superInterfaceTypes;
+
     public List<ResolvedTypeDeclaration> innerTypes() {
-        return Arrays.stream(declaration.getTypes())
-                .map(this::resolveInnerType)
-                .collect(toList());
+        return List.copyOf(innerTypesBySimpleName().values());
+    }
+
+    public Optional<ResolvedTypeDeclaration> innerType(String simpleName) {
+        return Optional.ofNullable(innerTypesBySimpleName().get(simpleName));
+    }
+
+    private Map<String, ResolvedTypeDeclaration> innerTypesBySimpleName() {
+        if(innerTypes == null) {
+            innerTypes = new LinkedHashMap<>();
+            for(TypeDeclaration innerType : declaration.getTypes()) {
+                innerTypes.put(innerType.getName().getIdentifier(), resolveInnerType(innerType));
+            }
+        }
+        return innerTypes;
     }
 
+    private Map<String, ResolvedTypeDeclaration> innerTypes;
+
     private ResolvedTypeDeclaration resolveInnerType(TypeDeclaration innerType) {
         var innerClassResolver = new TypeDeclarationResolver.Builder()
                 .parent(resolver)
@@ -144,6 +190,15 @@ public class ResolvedTypeDeclaration implements Documented {
         return DocumentationFactory.documentation(declaration.getJavadoc(), asAnnotatedElement());
     }
 
+    public ComponentClassification classification() {
+        if(classification == null) {
+            classification = ComponentClassifier.classify(this);
+        }
+        return classification;
+    }
+
+    private ComponentClassification classification;
+
     public List<ResolvedMethod> methods() {
         return Arrays.stream(typeDeclaration().getMethods())
                 .map(resolver::resolve)
@@ -31,11 +31,15 @@ public class ResolvedTypeName {
     }
 
     public boolean instanceOf(String superType) {
-        try {
-            return resolvedClass.instanceOf(superType);
-        } catch (ClassNotFoundException e) {
-            return false;
+        var role = FrameworkRole.ofClassName(superType);
+        if(role.isPresent()) {
+            return hasRole(role.get());
         }
+        return resolvedClass.subtypeOf(superType);
+    }
+
+    public boolean hasRole(FrameworkRole role) {
+        return role.isIn(resolvedClass.resolver().roleSignature(resolvedClass));
     }
 
     public String qualifiedName() {
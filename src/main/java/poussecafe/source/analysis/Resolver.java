@@ -1,5 +1,6 @@
 package poussecafe.source.analysis;
 
+import java.util.Optional;
 import org.eclipse.jdt.core.dom.SimpleType;
 
 public interface Resolver {
@@ -11,4 +12,8 @@ public interface Resolver {
     default ResolvedTypeName resolve(SimpleType simpleType) {
         return resolve(new ClassName(simpleType.getName()));
     }
+
+    default Optional<ClassName> importedClassName(String simpleName) {
+        return Optional.empty();
+    }
 }
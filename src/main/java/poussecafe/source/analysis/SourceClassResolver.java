@@ -0,0 +1,109 @@
+package poussecafe.source.analysis;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+public class SourceClassResolver extends ClassResolver {
+
+    @Override
+    protected ResolvedClass loadClass(String name) throws ClassNotFoundException {
+        var declaredType = symbolTable.declaredType(name);
+        if(declaredType.isPresent()) {
+            return resolvedClass(declaredType.get());
+        } else {
+            return fallback.loadClass(new ClassName(name))
+                    .orElseThrow(() -> new ClassNotFoundException(name));
+        }
+    }
+
+    @Override
+    protected ResolutionResult findClass(String name) {
+        var declaredType = symbolTable.declaredType(name);
+        if(declaredType.isPresent()) {
+            return ResolutionResult.resolved(resolvedClass(declaredType.get()));
+        } else {
+            return ResolutionResult.of(name, fallback.loadClass(new ClassName(name)));
+        }
+    }
+
+    private SourceSymbolTable symbolTable;
+
+    private ClassResolver fallback;
+
+    ResolvedClass resolvedClass(SourceSymbolTable.DeclaredType declaredType) {
+        return resolvedClasses.computeIfAbsent(declaredType.name().qualified(),
+                key -> new SourceResolvedClass.Builder()
+                    .declaredType(declaredType)
+                    .classResolver(this)
+                    .build());
+    }
+
+    private Map<String, ResolvedClass> resolvedClasses = new ConcurrentHashMap<>();
+
+    Optional<ResolvedClass> resolveQualifiedName(String qualifiedName) {
+        var declaredType = symbolTable.declaredType(qualifiedName);
+        if(declaredType.isPresent()) {
+            return Optional.of(resolvedClass(declaredType.get()));
+        }
+
+        return SourceSymbolTable.loadQualifiedClass(qualifiedName, fallback);
+    }
+
+    Optional<String> resolveSupertype(SourceSymbolTable.DeclaredType declaredType, String writtenName) {
+        return symbolTable.resolveSupertype(declaredType, writtenName, fallback);
+    }
+
+    Optional<SourceSymbolTable.DeclaredType> declaredType(String qualifiedName) {
+        return symbolTable.declaredType(qualifiedName);
+    }
+
+    @Override
+    public void invalidate(String qualifiedName) {
+        super.invalidate(qualifiedName);
+        resolvedClasses.remove(qualifiedName);
+        fallback.invalidate(qualifiedName);
+    }
+
+    @Override
+    public void refreshPackageIndex() {
+        super.refreshPackageIndex();
+        fallback.refreshPackageIndex();
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        resolvedClasses.clear();
+        fallback.invalidate();
+    }
+
+    public static class Builder {
+
+        private SourceClassResolver resolver = new SourceClassResolver();
+
+        public SourceClassResolver build() {
+            requireNonNull(resolver.symbolTable);
+            if(resolver.fallback == null) {
+                resolver.fallback = new ClassLoaderClassResolver();
+            }
+            return resolver;
+        }
+
+        public Builder symbolTable(SourceSymbolTable symbolTable) {
+            resolver.symbolTable = symbolTable;
+            return this;
+        }
+
+        public Builder fallback(ClassResolver fallback) {
+            resolver.fallback = fallback;
+            return this;
+        }
+    }
+
+    private SourceClassResolver() {
+
+    }
+}
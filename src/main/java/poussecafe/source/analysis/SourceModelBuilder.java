@@ -1,5 +1,6 @@
 package poussecafe.source.analysis;
 
+import poussecafe.source.ScannerConfiguration;
 import poussecafe.source.SingleVisitorScanner;
 import poussecafe.source.model.SourceModel;
 
@@ -24,4 +25,29 @@ public class SourceModelBuilder extends SingleVisitorScanner {
     public SourceModelBuilder(ClassResolver classResolver) {
         super(classResolver);
     }
+
+    public SourceModelBuilder(ClassResolver classResolver, ScannerConfiguration configuration) {
+        super(classResolver, configuration);
+    }
+
+    public static class Builder {
+
+        public SourceModelBuilder build() {
+            return new SourceModelBuilder(classResolver, configuration);
+        }
+
+        private ClassResolver classResolver = new ClassLoaderClassResolver();
+
+        private ScannerConfiguration configuration = ScannerConfiguration.defaultConfiguration();
+
+        public Builder classResolver(ClassResolver classResolver) {
+            this.classResolver = classResolver;
+            return this;
+        }
+
+        public Builder configuration(ScannerConfiguration configuration) {
+            this.configuration = configuration;
+            return this;
+        }
+    }
 }
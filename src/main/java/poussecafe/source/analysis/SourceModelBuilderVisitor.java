@@ -5,6 +5,7 @@ import java.util.List;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
+import poussecafe.source.WithCacheableContribution;
 import poussecafe.source.WithPersistableState;
 import poussecafe.source.model.AggregateContainer;
 import poussecafe.source.model.Command;
@@ -27,7 +28,18 @@ import poussecafe.source.model.TypeComponent;
 
 import static java.util.stream.Collectors.toList;
 
-public class SourceModelBuilderVisitor implements ResolvedCompilationUnitVisitor, WithPersistableState {
+public class SourceModelBuilderVisitor implements ResolvedCompilationUnitVisitor, WithPersistableState,
+        WithCacheableContribution {
+
+    @Override
+    public VisitorInterests interests() {
+        return new VisitorInterests.Builder()
+                .node(VisitedNode.TYPE)
+                .node(VisitedNode.METHOD)
+                .node(VisitedNode.ENUM)
+                .methodAnnotation(CompilationUnitResolver.MESSAGE_LISTENER_ANNOTATION_CLASS)
+                .build();
+    }
 
     @Override
     public boolean visit(ResolvedCompilationUnit unit) {
@@ -41,38 +53,39 @@ public class SourceModelBuilderVisitor implements ResolvedCompilationUnitVisitor
 
     @Override
     public boolean visit(ResolvedTypeDeclaration resolvedTypeDeclaration) {
+        var classification = resolvedTypeDeclaration.classification();
         ++typeLevel;
-        if(AggregateRootClass.isAggregateRoot(resolvedTypeDeclaration)) {
+        if(classification.is(ComponentKind.AGGREGATE_ROOT)) {
             visitAggregateRoot(resolvedTypeDeclaration);
             return true;
-        } else if(FactoryClass.isFactory(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.FACTORY)) {
             visitFactory(resolvedTypeDeclaration);
             return true;
-        } else if(RepositoryClass.isRepository(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.REPOSITORY)) {
             visitRepository(resolvedTypeDeclaration);
             return true;
-        } else if(ProcessDefinitionType.isProcessDefinition(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.PROCESS_DEFINITION)) {
             visitProcessDefinition(resolvedTypeDeclaration);
             return false;
-        } else if(AggregateContainerClass.isAggregateContainerClass(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.AGGREGATE_CONTAINER)) {
             visitAggregateContainer(resolvedTypeDeclaration);
             return true;
-        } else if(RunnerClass.isRunner(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.RUNNER)) {
             visitRunner(resolvedTypeDeclaration);
             return false;
-        } else if(ModuleClass.isModule(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.MODULE)) {
             visitModule(resolvedTypeDeclaration);
             return false;
-        } else if(EntityClass.isEntity(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.ENTITY)) {
             visitEntity(resolvedTypeDeclaration);
             return false;
-        } else if(ValueObjectClass.isValueObject(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.VALUE_OBJECT)) {
             visitValueObject(resolvedTypeDeclaration);
             return false;
-        } else if(ServiceClass.isService(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.SERVICE)) {
             visitService(resolvedTypeDeclaration);
             return false;
-        } else if(MessageDefinitionType.isMessageDefinition(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.MESSAGE_DEFINITION)) {
             visitMessageDefinition(resolvedTypeDeclaration);
             return false;
         } else {
@@ -84,13 +97,11 @@ public class SourceModelBuilderVisitor implements ResolvedCompilationUnitVisitor
         AggregateRootClass aggregateRootClass = new AggregateRootClass(resolvedTypeDeclaration);
         containerLevel = typeLevel;
         String identifier;
-        String aggregateName;
+        var aggregateName = resolvedTypeDeclaration.classification().aggregateName().orElseThrow();
         if(typeLevel == 0) {
-            aggregateName = aggregateRootClass.aggregateName();
             identifier = resolvedTypeDeclaration.name().simpleName();
             createStandaloneAggregateRoot(aggregateRootClass);
         } else {
-            aggregateName = aggregateNameForInnerClass(resolvedTypeDeclaration);
             identifier = innerClassQualifiedName(resolvedTypeDeclaration);
             createInnerAggregateRoot(aggregateName, aggregateRootClass);
         }
@@ -142,12 +153,10 @@ public class SourceModelBuilderVisitor implements ResolvedCompilationUnitVisitor
         FactoryClass factoryClass = new FactoryClass(resolvedTypeDeclaration);
         containerLevel = typeLevel;
         String identifier;
-        String aggregateName;
+        var aggregateName = resolvedTypeDeclaration.classification().aggregateName().orElseThrow();
         if(typeLevel == 0) {
-            aggregateName = factoryClass.aggregateName();
             identifier = factoryClass.simpleName();
         } else {
-            aggregateName = aggregateNameForInnerClass(resolvedTypeDeclaration);
             identifier = innerClassQualifiedName(resolvedTypeDeclaration);
         }
         if(typeLevel == 0) {
@@ -167,12 +176,10 @@ public class SourceModelBuilderVisitor implements ResolvedCompilationUnitVisitor
         RepositoryClass repositoryClass = new RepositoryClass(resolvedTypeDeclaration);
         containerLevel = typeLevel;
         String identifier;
-        String aggregateName;
+        var aggregateName = resolvedTypeDeclaration.classification().aggregateName().orElseThrow();
         if(typeLevel == 0) {
-            aggregateName = repositoryClass.aggregateName();
             identifier = repositoryClass.simpleName();
         } else {
-            aggregateName = aggregateNameForInnerClass(resolvedTypeDeclaration);
             identifier = innerClassQualifiedName(resolvedTypeDeclaration);
         }
         if(typeLevel == 0) {
@@ -192,11 +199,6 @@ public class SourceModelBuilderVisitor implements ResolvedCompilationUnitVisitor
 
     private MessageListenerContainer container;
 
-    private String aggregateNameForInnerClass(ResolvedTypeDeclaration resolvedTypeDeclaration) {
-        var typeDeclaration = (TypeDeclaration) resolvedTypeDeclaration.typeDeclaration().getParent();
-        return typeDeclaration.getName().getIdentifier();
-    }
-
     private String innerClassQualifiedName(ResolvedTypeDeclaration resolvedTypeDeclaration) {
         return innerClassQualifiedName(resolvedTypeDeclaration.typeDeclaration());
     }
@@ -361,4 +363,32 @@ public class SourceModelBuilderVisitor implements ResolvedCompilationUnitVisitor
     public void loadSerializedState(Serializable state) {
         modelBuilder = (SourceModelBuilder) state;
     }
+
+    @Override
+    public void startContribution() {
+        if(mainState != null) {
+            throw new IllegalStateException("Contribution already started");
+        }
+        mainState = modelBuilder;
+        modelBuilder = new SourceModelBuilder();
+    }
+
+    private SourceModelBuilder mainState;
+
+    @Override
+    public Serializable endContribution() {
+        if(mainState == null) {
+            throw new IllegalStateException("No contribution started");
+        }
+        var contribution = modelBuilder;
+        modelBuilder = mainState;
+        mainState = null;
+        modelBuilder.merge(contribution);
+        return contribution;
+    }
+
+    @Override
+    public void replayContribution(Serializable contribution) {
+        modelBuilder.merge((SourceModelBuilder) contribution);
+    }
 }
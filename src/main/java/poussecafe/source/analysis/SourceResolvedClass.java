@@ -0,0 +1,178 @@
+package poussecafe.source.analysis;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import poussecafe.source.Source;
+import poussecafe.util.Equality;
+
+import static java.util.Objects.requireNonNull;
+
+public class SourceResolvedClass implements ResolvedClass {
+
+    @Override
+    public ClassName name() {
+        return declaredType.name();
+    }
+
+    private SourceSymbolTable.DeclaredType declaredType;
+
+    @Override
+    public List<ResolvedClass> innerClasses() {
+        if(innerClassList == null) {
+            innerClassList = List.copyOf(innerClassesBySimpleName().values());
+        }
+        return innerClassList;
+    }
+
+    private volatile List<ResolvedClass> innerClassList;
+
+    private Map<String, ResolvedClass> innerClassesBySimpleName() {
+        if(innerClasses == null) {
+            var innerClassesBySimpleName = new LinkedHashMap<String, ResolvedClass>();
+            for(String innerTypeName : declaredType.innerTypeNames()) {
+                classResolver.declaredType(innerTypeName).ifPresent(innerType -> innerClassesBySimpleName.put(
+                        innerType.name().simple(), classResolver.resolvedClass(innerType)));
+            }
+            innerClasses = Collections.unmodifiableMap(innerClassesBySimpleName);
+        }
+        return innerClasses;
+    }
+
+    private volatile Map<String, ResolvedClass> innerClasses;
+
+    @Override
+    public Optional<ResolvedClass> innerClass(String simpleName) {
+        return Optional.ofNullable(innerClassesBySimpleName().get(simpleName));
+    }
+
+    @Override
+    public boolean instanceOf(String supertype) throws ClassNotFoundException {
+        if(!instanceOfResults.containsKey(supertype)
+                && classResolver.resolveQualifiedName(supertype).isEmpty()) {
+            throw new ClassNotFoundException(supertype);
+        }
+        return subtypeOf(supertype);
+    }
+
+    @Override
+    public boolean subtypeOf(String supertype) {
+        var cachedResult = instanceOfResults.get(supertype);
+        if(cachedResult != null) {
+            return cachedResult;
+        }
+
+        if(classResolver.resolveQualifiedName(supertype).isEmpty()) {
+            return false;
+        }
+        boolean result = hasAncestor(supertype);
+        instanceOfResults.put(supertype, result);
+        return result;
+    }
+
+    private Map<String, Boolean> instanceOfResults = new ConcurrentHashMap<>();
+
+    private boolean hasAncestor(String supertype) {
+        var visited = new HashSet<String>();
+        var pending = new ArrayDeque<SourceSymbolTable.DeclaredType>();
+        pending.add(declaredType);
+        while(!pending.isEmpty()) {
+            var current = pending.poll();
+            if(current.name().qualified().equals(supertype)) {
+                return true;
+            }
+            if(!visited.add(current.name().qualified())) {
+                continue;
+            }
+
+            for(String writtenSupertype : current.writtenSupertypes()) {
+                var supertypeName = classResolver.resolveSupertype(current, writtenSupertype);
+                if(supertypeName.isEmpty()) {
+                    continue;
+                }
+                var sourceSupertype = classResolver.declaredType(supertypeName.get());
+                if(sourceSupertype.isPresent()) {
+                    pending.add(sourceSupertype.get());
+                } else {
+                    var librarySupertype = classResolver.resolveQualifiedName(supertypeName.get());
+                    if(librarySupertype.isPresent() && librarySupertype.get().subtypeOf(supertype)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<ResolvedClass> declaringClass() {
+        return declaredType.declaringTypeName()
+                .flatMap(classResolver::declaredType)
+                .map(classResolver::resolvedClass);
+    }
+
+    @Override
+    public ClassResolver resolver() {
+        return classResolver;
+    }
+
+    private SourceClassResolver classResolver;
+
+    @Override
+    public Optional<Object> staticFieldValue(String constantName) {
+        return Optional.ofNullable(declaredType.constantValues().get(constantName));
+    }
+
+    @Override
+    public Source source() {
+        return declaredType.source();
+    }
+
+    @Override
+    public boolean isInterface() {
+        return declaredType.isInterface();
+    }
+
+    public static class Builder {
+
+        public SourceResolvedClass build() {
+            requireNonNull(resolvedClass.declaredType);
+            requireNonNull(resolvedClass.classResolver);
+            return resolvedClass;
+        }
+
+        private SourceResolvedClass resolvedClass = new SourceResolvedClass();
+
+        public Builder declaredType(SourceSymbolTable.DeclaredType declaredType) {
+            resolvedClass.declaredType = declaredType;
+            return this;
+        }
+
+        public Builder classResolver(SourceClassResolver classResolver) {
+            resolvedClass.classResolver = classResolver;
+            return this;
+        }
+    }
+
+    private SourceResolvedClass() {
+
+    }
+
+    @Override
+    public int hashCode() {
+        return declaredType.name().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return Equality.referenceEquals(this, obj).orElse(other -> new EqualsBuilder()
+                .append(declaredType.name(), other.declaredType.name())
+                .build());
+    }
+}
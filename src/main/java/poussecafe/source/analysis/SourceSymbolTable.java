@@ -0,0 +1,551 @@
+package poussecafe.source.analysis;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.ParenthesizedExpression;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import poussecafe.source.ParseProfile;
+import poussecafe.source.PathSource;
+import poussecafe.source.Source;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+public class SourceSymbolTable {
+
+    public Optional<DeclaredType> declaredType(String qualifiedName) {
+        return Optional.ofNullable(declaredTypes.get(qualifiedName));
+    }
+
+    private Map<String, DeclaredType> declaredTypes = new ConcurrentHashMap<>();
+
+    public int size() {
+        return declaredTypes.size();
+    }
+
+    public Set<String> includeFiles(Collection<Path> files, Charset charset) {
+        var declaredNames = new HashSet<String>();
+        for(Path file : files) {
+            declaredNames.addAll(includeSource(new PathSource(file, charset)));
+        }
+        return declaredNames;
+    }
+
+    public Set<String> includeSource(Source source) {
+        var declaredNames = forget(source.id());
+        var unit = source.parse(ParseProfile.SIGNATURES_ONLY);
+        if(unit.getMessages().length > 0) {
+            logger.warn("Skipping {} because of compilation issues", source.id());
+        } else {
+            include(source, unit);
+            declaredNames.addAll(typeNamesBySourceId.getOrDefault(source.id(), Collections.emptySet()));
+        }
+        return declaredNames;
+    }
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    public Set<String> forget(String sourceId) {
+        var forgottenNames = typeNamesBySourceId.remove(sourceId);
+        if(forgottenNames == null) {
+            return new HashSet<>();
+        }
+        forgottenNames.forEach(declaredTypes::remove);
+        return new HashSet<>(forgottenNames);
+    }
+
+    private Map<String, Set<String>> typeNamesBySourceId = new ConcurrentHashMap<>();
+
+    public static class DeclaredType {
+
+        public ClassName name() {
+            return name;
+        }
+
+        private ClassName name;
+
+        public Optional<String> declaringTypeName() {
+            return Optional.ofNullable(declaringTypeName);
+        }
+
+        private String declaringTypeName;
+
+        public List<String> innerTypeNames() {
+            return Collections.unmodifiableList(innerTypeNames);
+        }
+
+        private List<String> innerTypeNames = new ArrayList<>();
+
+        public List<String> writtenSupertypes() {
+            return Collections.unmodifiableList(writtenSupertypes);
+        }
+
+        private List<String> writtenSupertypes = new ArrayList<>();
+
+        public boolean isInterface() {
+            return isInterface;
+        }
+
+        private boolean isInterface;
+
+        public Map<String, Object> constantValues() {
+            return Collections.unmodifiableMap(constantValues);
+        }
+
+        private Map<String, Object> constantValues = new HashMap<>();
+
+        public Source source() {
+            return source;
+        }
+
+        private Source source;
+
+        private ImportContext imports;
+
+        private DeclaredType() {
+
+        }
+    }
+
+    private static class ImportContext {
+
+        private String packageName;
+
+        private Map<String, String> singleTypeImports = new HashMap<>();
+
+        private List<String> onDemandImports = new ArrayList<>();
+    }
+
+    private void include(Source source, CompilationUnit unit) {
+        var imports = new ImportContext();
+        if(unit.getPackage() == null) {
+            imports.packageName = "";
+        } else {
+            imports.packageName = unit.getPackage().getName().getFullyQualifiedName();
+        }
+        for(Object importObject : unit.imports()) {
+            var importDeclaration = (ImportDeclaration) importObject;
+            if(!importDeclaration.isStatic()) {
+                var importedName = importDeclaration.getName().getFullyQualifiedName();
+                if(importDeclaration.isOnDemand()) {
+                    imports.onDemandImports.add(importedName);
+                } else {
+                    imports.singleTypeImports.put(new ClassName(importedName).simple(), importedName);
+                }
+            }
+        }
+
+        var constantFolder = new ConstantFolder();
+        for(Object type : unit.types()) {
+            var declaration = (AbstractTypeDeclaration) type;
+            String qualifiedName;
+            if(imports.packageName.isEmpty()) {
+                qualifiedName = declaration.getName().getIdentifier();
+            } else {
+                qualifiedName = imports.packageName + "." + declaration.getName().getIdentifier();
+            }
+            include(source, imports, declaration, qualifiedName, null, constantFolder);
+        }
+        constantFolder.fold();
+    }
+
+    private void include(Source source, ImportContext imports, AbstractTypeDeclaration declaration,
+            String qualifiedName, String declaringTypeName, ConstantFolder constantFolder) {
+        var declaredType = new DeclaredType();
+        declaredType.name = new ClassName(qualifiedName);
+        declaredType.declaringTypeName = declaringTypeName;
+        declaredType.source = source;
+        declaredType.imports = imports;
+
+        if(declaration instanceof TypeDeclaration) {
+            var typeDeclaration = (TypeDeclaration) declaration;
+            declaredType.isInterface = typeDeclaration.isInterface();
+            if(typeDeclaration.getSuperclassType() != null) {
+                declaredType.writtenSupertypes.add(writtenName(typeDeclaration.getSuperclassType()));
+            }
+            for(Object superInterface : typeDeclaration.superInterfaceTypes()) {
+                declaredType.writtenSupertypes.add(writtenName((Type) superInterface));
+            }
+        } else if(declaration instanceof EnumDeclaration) {
+            declaredType.writtenSupertypes.add(Enum.class.getCanonicalName());
+            for(Object superInterface : ((EnumDeclaration) declaration).superInterfaceTypes()) {
+                declaredType.writtenSupertypes.add(writtenName((Type) superInterface));
+            }
+        } else if(declaration instanceof AnnotationTypeDeclaration) {
+            declaredType.isInterface = true;
+            declaredType.writtenSupertypes.add(java.lang.annotation.Annotation.class.getCanonicalName());
+        }
+
+        for(Object bodyDeclaration : declaration.bodyDeclarations()) {
+            if(bodyDeclaration instanceof FieldDeclaration) {
+                includeConstants(declaredType, (FieldDeclaration) bodyDeclaration, constantFolder);
+            } else if(bodyDeclaration instanceof AbstractTypeDeclaration) {
+                var innerDeclaration = (AbstractTypeDeclaration) bodyDeclaration;
+                var innerTypeName = qualifiedName + "." + innerDeclaration.getName().getIdentifier();
+                declaredType.innerTypeNames.add(innerTypeName);
+                include(source, imports, innerDeclaration, innerTypeName, qualifiedName, constantFolder);
+            }
+        }
+
+        declaredTypes.put(qualifiedName, declaredType);
+        typeNamesBySourceId.computeIfAbsent(source.id(), key -> ConcurrentHashMap.newKeySet()).add(qualifiedName);
+        constantFolder.unitTypes.add(declaredType);
+    }
+
+    private String writtenName(Type type) {
+        if(type instanceof ParameterizedType) {
+            return writtenName(((ParameterizedType) type).getType());
+        } else {
+            return type.toString();
+        }
+    }
+
+    private void includeConstants(DeclaredType declaredType, FieldDeclaration fieldDeclaration,
+            ConstantFolder constantFolder) {
+        if(!declaredType.isInterface && !Modifier.isStatic(fieldDeclaration.getModifiers())) {
+            return;
+        }
+        for(Object fragmentObject : fieldDeclaration.fragments()) {
+            var fragment = (VariableDeclarationFragment) fragmentObject;
+            if(fragment.getInitializer() != null) {
+                constantFolder.add(declaredType, fragment.getName().getIdentifier(), fragment.getInitializer());
+            }
+        }
+    }
+
+    /**
+     * Folds literals, string concatenations, integer additions and references to constants declared in the same
+     * compilation unit. Constants referencing other compilation units are not recorded.
+     */
+    private class ConstantFolder {
+
+        void add(DeclaredType declaredType, String fieldName, Expression initializer) {
+            initializers.put(key(declaredType, fieldName), initializer);
+            fieldNames.computeIfAbsent(declaredType, key -> new ArrayList<>()).add(fieldName);
+        }
+
+        private Map<String, Expression> initializers = new HashMap<>();
+
+        private Map<DeclaredType, List<String>> fieldNames = new LinkedHashMap<>();
+
+        private String key(DeclaredType declaredType, String fieldName) {
+            return declaredType.name.qualified() + "#" + fieldName;
+        }
+
+        private List<DeclaredType> unitTypes = new ArrayList<>();
+
+        void fold() {
+            for(Entry<DeclaredType, List<String>> typeFieldNames : fieldNames.entrySet()) {
+                for(String fieldName : typeFieldNames.getValue()) {
+                    constantValue(typeFieldNames.getKey(), fieldName);
+                }
+            }
+        }
+
+        private Optional<Object> constantValue(DeclaredType declaredType, String fieldName) {
+            var key = key(declaredType, fieldName);
+            if(declaredType.constantValues.containsKey(fieldName)) {
+                return Optional.of(declaredType.constantValues.get(fieldName));
+            }
+            if(!foldingKeys.add(key)) {
+                return Optional.empty();
+            }
+            var value = foldedValue(declaredType, initializers.get(key));
+            value.ifPresent(constantValue -> declaredType.constantValues.put(fieldName, constantValue));
+            foldingKeys.remove(key);
+            return value;
+        }
+
+        private Set<String> foldingKeys = new HashSet<>();
+
+        private Optional<Object> foldedValue(DeclaredType scope, Expression expression) {
+            if(expression instanceof ParenthesizedExpression) {
+                return foldedValue(scope, ((ParenthesizedExpression) expression).getExpression());
+            } else if(expression instanceof InfixExpression) {
+                return foldedSum(scope, (InfixExpression) expression);
+            } else if(expression instanceof SimpleName) {
+                return referencedValue(scope, ((SimpleName) expression).getIdentifier());
+            } else if(expression instanceof QualifiedName) {
+                var qualifiedName = (QualifiedName) expression;
+                return unitType(qualifiedName.getQualifier().getFullyQualifiedName())
+                        .flatMap(type -> referencedValue(type, qualifiedName.getName().getIdentifier()));
+            } else {
+                return literalValue(expression);
+            }
+        }
+
+        private Optional<Object> foldedSum(DeclaredType scope, InfixExpression expression) {
+            if(expression.getOperator() != InfixExpression.Operator.PLUS) {
+                return Optional.empty();
+            }
+            var operands = new ArrayList<Expression>();
+            operands.add(expression.getLeftOperand());
+            operands.add(expression.getRightOperand());
+            for(Object extendedOperand : expression.extendedOperands()) {
+                operands.add((Expression) extendedOperand);
+            }
+
+            Object sum = null;
+            for(Expression operand : operands) {
+                var value = foldedValue(scope, operand);
+                if(value.isEmpty()) {
+                    return Optional.empty();
+                }
+                if(sum == null) {
+                    sum = value.get();
+                } else if(sum instanceof String || value.get() instanceof String) {
+                    sum = String.valueOf(sum) + value.get();
+                } else if(sum instanceof Integer && value.get() instanceof Integer) {
+                    sum = (Integer) sum + (Integer) value.get();
+                } else {
+                    return Optional.empty();
+                }
+            }
+            return Optional.ofNullable(sum);
+        }
+
+        private Optional<Object> referencedValue(DeclaredType scope, String fieldName) {
+            var enclosingType = Optional.of(scope);
+            while(enclosingType.isPresent()) {
+                var currentType = enclosingType.get();
+                if(initializers.containsKey(key(currentType, fieldName))) {
+                    return constantValue(currentType, fieldName);
+                }
+                enclosingType = unitType(currentType.declaringTypeName);
+            }
+            return Optional.empty();
+        }
+
+        private Optional<DeclaredType> unitType(String writtenName) {
+            if(writtenName == null) {
+                return Optional.empty();
+            }
+            for(DeclaredType unitType : unitTypes) {
+                var qualifiedName = unitType.name.qualified();
+                if(qualifiedName.equals(writtenName) || qualifiedName.endsWith("." + writtenName)) {
+                    return Optional.of(unitType);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Object> literalValue(Expression expression) {
+        if(expression instanceof StringLiteral) {
+            return Optional.of(((StringLiteral) expression).getLiteralValue());
+        } else if(expression instanceof BooleanLiteral) {
+            return Optional.of(((BooleanLiteral) expression).booleanValue());
+        } else if(expression instanceof CharacterLiteral) {
+            return Optional.of(((CharacterLiteral) expression).charValue());
+        } else if(expression instanceof NumberLiteral) {
+            return numberValue(((NumberLiteral) expression).getToken());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Object> numberValue(String token) {
+        var normalizedToken = token.replace("_", "");
+        var lastCharacter = Character.toUpperCase(normalizedToken.charAt(normalizedToken.length() - 1));
+        try {
+            if(lastCharacter == 'L') {
+                return Optional.of(Long.decode(normalizedToken.substring(0, normalizedToken.length() - 1)));
+            } else if(lastCharacter == 'F') {
+                return Optional.of(Float.valueOf(normalizedToken));
+            } else if(lastCharacter == 'D' || normalizedToken.contains(".")) {
+                return Optional.of(Double.valueOf(normalizedToken));
+            } else {
+                return Optional.of(Integer.decode(normalizedToken));
+            }
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    Optional<String> resolveSupertype(DeclaredType declaredType, String writtenName, ClassResolver fallback) {
+        return resolveSupertype(declaredType, writtenName, fallback, true);
+    }
+
+    private Optional<String> resolveSupertype(DeclaredType declaredType, String writtenName, ClassResolver fallback,
+            boolean includeInheritedTypes) {
+        var segments = new ClassName(writtenName).segments();
+        var rootName = resolveSimpleName(declaredType, segments[0], fallback, includeInheritedTypes);
+        if(rootName.isPresent()) {
+            var qualifiedName = new StringBuilder(rootName.get());
+            for(int i = 1; i < segments.length; ++i) {
+                qualifiedName.append('.');
+                qualifiedName.append(segments[i]);
+            }
+            return Optional.of(qualifiedName.toString());
+        } else if(segments.length > 1
+                && (declaredTypes.containsKey(writtenName) || loadQualifiedClass(writtenName, fallback).isPresent())) {
+            return Optional.of(writtenName);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    static Optional<ResolvedClass> loadQualifiedClass(String qualifiedName, ClassResolver resolver) {
+        var segments = List.of(new ClassName(qualifiedName).segments());
+        for(int rootLength = segments.size(); rootLength > 0; --rootLength) {
+            var rootClassName = new ClassName(String.join(".", segments.subList(0, rootLength)));
+            var resolvedClass = resolver.loadInnerClass(rootClassName, segments.subList(rootLength, segments.size()));
+            if(resolvedClass.isPresent()) {
+                return resolvedClass;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> resolveSimpleName(DeclaredType declaredType, String simpleName, ClassResolver fallback,
+            boolean includeInheritedTypes) {
+        var enclosingType = Optional.of(declaredType);
+        while(enclosingType.isPresent()) {
+            var currentType = enclosingType.get();
+            if(currentType.name.simple().equals(simpleName)) {
+                return Optional.of(currentType.name.qualified());
+            }
+            for(String innerTypeName : currentType.innerTypeNames) {
+                if(new ClassName(innerTypeName).simple().equals(simpleName)) {
+                    return Optional.of(innerTypeName);
+                }
+            }
+            if(includeInheritedTypes) {
+                var inheritedTypeName = inheritedMemberType(currentType, simpleName, fallback, new HashSet<>());
+                if(inheritedTypeName.isPresent()) {
+                    return inheritedTypeName;
+                }
+            }
+            enclosingType = currentType.declaringTypeName().flatMap(this::declaredType);
+        }
+
+        var imports = declaredType.imports;
+        var importedName = imports.singleTypeImports.get(simpleName);
+        if(importedName != null) {
+            return Optional.of(importedName);
+        }
+
+        var candidatePackages = new ArrayList<String>();
+        candidatePackages.add(imports.packageName);
+        candidatePackages.addAll(imports.onDemandImports);
+        candidatePackages.add("java.lang");
+        for(String candidatePackage : candidatePackages) {
+            String candidateName;
+            if(candidatePackage.isEmpty()) {
+                candidateName = simpleName;
+            } else {
+                candidateName = candidatePackage + "." + simpleName;
+            }
+            if(declaredTypes.containsKey(candidateName)
+                    || fallback.loadClass(new ClassName(candidateName)).isPresent()) {
+                return Optional.of(candidateName);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> inheritedMemberType(DeclaredType declaredType, String simpleName, ClassResolver fallback,
+            Set<String> visitedTypeNames) {
+        if(!visitedTypeNames.add(declaredType.name.qualified())) {
+            return Optional.empty();
+        }
+        for(String writtenSupertype : declaredType.writtenSupertypes) {
+            var supertypeName = resolveSupertype(declaredType, writtenSupertype, fallback, false);
+            if(supertypeName.isEmpty()) {
+                continue;
+            }
+            var memberTypeName = memberType(supertypeName.get(), simpleName, fallback, visitedTypeNames);
+            if(memberTypeName.isPresent()) {
+                return memberTypeName;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> memberType(String typeName, String simpleName, ClassResolver fallback,
+            Set<String> visitedTypeNames) {
+        var declaredSupertype = declaredTypes.get(typeName);
+        if(declaredSupertype != null) {
+            for(String innerTypeName : declaredSupertype.innerTypeNames) {
+                if(new ClassName(innerTypeName).simple().equals(simpleName)) {
+                    return Optional.of(innerTypeName);
+                }
+            }
+            return inheritedMemberType(declaredSupertype, simpleName, fallback, visitedTypeNames);
+        } else {
+            return loadQualifiedClass(typeName, fallback)
+                    .flatMap(resolvedClass -> resolvedClass.innerClass(simpleName))
+                    .map(innerClass -> innerClass.name().qualified());
+        }
+    }
+
+    public static class Builder {
+
+        private SourceSymbolTable table = new SourceSymbolTable();
+
+        public SourceSymbolTable build() {
+            return table;
+        }
+
+        public Builder charset(Charset charset) {
+            requireNonNull(charset);
+            this.charset = charset;
+            return this;
+        }
+
+        private Charset charset = StandardCharsets.UTF_8;
+
+        public Builder includeTree(Path sourceDirectory) throws IOException {
+            try(var files = Files.walk(sourceDirectory)) {
+                table.includeFiles(files
+                        .filter(file -> file.toString().endsWith(".java"))
+                        .collect(toList()), charset);
+            }
+            return this;
+        }
+
+        public Builder includeSource(Source source) {
+            table.includeSource(source);
+            return this;
+        }
+    }
+
+    private SourceSymbolTable() {
+
+    }
+}
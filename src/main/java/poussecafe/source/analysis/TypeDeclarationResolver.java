@@ -2,6 +2,7 @@ package poussecafe.source.analysis;
 
 import java.util.Optional;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleType;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 
 import static java.util.Objects.requireNonNull;
@@ -18,6 +19,38 @@ public class TypeDeclarationResolver implements Resolver {
         }
     }
 
+    @Override
+    public ResolvedTypeName resolve(SimpleType simpleType) {
+        var name = new ClassName(simpleType.getName());
+        var resolvedInnerClass = resolveInnerClass(tryRemoveDeclaringClassNamePrefix(name));
+        if(resolvedInnerClass.isPresent()) {
+            return resolvedInnerClass.get();
+        } else {
+            return parent.resolve(simpleType);
+        }
+    }
+
+    @Override
+    public Optional<ClassName> importedClassName(String simpleName) {
+        if(declaresType(simpleName)) {
+            return Optional.empty();
+        } else {
+            return parent.importedClassName(simpleName);
+        }
+    }
+
+    private boolean declaresType(String simpleName) {
+        if(typeDeclaration.getName().getIdentifier().equals(simpleName)) {
+            return true;
+        }
+        for(TypeDeclaration innerType : typeDeclaration.getTypes()) {
+            if(innerType.getName().getIdentifier().equals(simpleName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private ClassName tryRemoveDeclaringClassNamePrefix(ClassName name) {
         SafeClassName declaringClassName = resolvedTypeDeclaration().unresolvedName();
         if(isPrefixedWithSimpleName(name, declaringClassName)) {
@@ -58,14 +91,19 @@ public class TypeDeclarationResolver implements Resolver {
     private Optional<ResolvedTypeDeclaration> parentTypeDeclaration = Optional.empty();
 
     public ResolvedTypeDeclaration resolvedTypeDeclaration() {
-        return new ResolvedTypeDeclaration.Builder()
-                .withDeclaration(typeDeclaration)
-                .withResolver(this)
-                .withDeclaringType(parentTypeDeclaration)
-                .withName(name())
-                .build();
+        if(resolvedTypeDeclaration == null) {
+            resolvedTypeDeclaration = new ResolvedTypeDeclaration.Builder()
+                    .withDeclaration(typeDeclaration)
+                    .withResolver(this)
+                    .withDeclaringType(parentTypeDeclaration)
+                    .withName(name())
+                    .build();
+        }
+        return resolvedTypeDeclaration;
     }
 
+    private ResolvedTypeDeclaration resolvedTypeDeclaration;
+
     private SafeClassName name() {
         return safeClassName;
     }
@@ -74,12 +112,7 @@ public class TypeDeclarationResolver implements Resolver {
 
     private Optional<ResolvedTypeDeclaration> findInnerClassByName(ResolvedTypeDeclaration declaringType,
             String simpleName) {
-        for(ResolvedTypeDeclaration innerClass : declaringType.innerTypes()) {
-            if(innerClass.unresolvedName().simpleName().equals(simpleName)) {
-                return Optional.of(innerClass);
-            }
-        }
-        return Optional.empty();
+        return declaringType.innerType(simpleName);
     }
 
     public ResolvedMethod resolve(MethodDeclaration method) {
@@ -14,9 +14,10 @@ import static java.util.stream.Collectors.toSet;
 public class TypeReferencesDiscovery {
 
     public Set<TypeReference> references() {
-        if(ValueObjectClass.isValueObject(resolvedTypeDeclaration)) {
+        var classification = resolvedTypeDeclaration.classification();
+        if(classification.is(ComponentKind.VALUE_OBJECT)) {
             return methodReturnTypeReferences(resolvedTypeDeclaration);
-        } else if(EntityClass.isEntity(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.ENTITY)) {
             var attributes = resolvedTypeDeclaration.innerTypes().stream()
                     .filter(item -> item.implementsInterface(CompilationUnitResolver.ENTITY_ATTRIBUTES_INTERFACE))
                     .findFirst();
@@ -1,20 +1,34 @@
 package poussecafe.source.analysis;
 
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.EnumDeclaration;
 import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import poussecafe.source.Source;
+import poussecafe.source.WithCacheableContribution;
+import poussecafe.source.metrics.PipelineMetrics;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 public class TypeResolvingCompilationUnitVisitor {
 
@@ -24,13 +38,78 @@ public class TypeResolvingCompilationUnitVisitor {
         }
 
         currentSourceFile = sourceFile;
+        var compilationUnit = sourceFile.compilationUnit();
+        long start = System.nanoTime();
         resolver = new CompilationUnitResolver.Builder()
-                .compilationUnit(sourceFile.compilationUnit())
-                .classResolver(classResolver)
+                .compilationUnit(compilationUnit)
+                .classResolver(unitClassResolver(sourceFile, compilationUnit))
+                .metrics(metrics)
                 .build();
-        sourceFile.compilationUnit().accept(astVisitor);
+        compilationUnit.accept(astVisitor);
+        metrics.recordVisitedUnit(sourceFile.id(), System.nanoTime() - start);
     }
 
+    private ClassResolver unitClassResolver(Source sourceFile, CompilationUnit compilationUnit) {
+        if(compilationUnit.getAST().hasResolvedBindings()) {
+            if(bindingClassResolver == null) {
+                bindingClassResolver = new BindingClassResolver.Builder()
+                        .fallback(classResolver)
+                        .build();
+            }
+            bindingClassResolver.register(sourceFile, compilationUnit);
+            return bindingClassResolver;
+        } else {
+            return classResolver;
+        }
+    }
+
+    private BindingClassResolver bindingClassResolver;
+
+    public void endBindingsBatch() {
+        bindingClassResolver = null;
+    }
+
+    private void recordVisit(ResolvedCompilationUnitVisitor visitor, long start) {
+        metrics.recordVisit(visitor.getClass().getName(), System.nanoTime() - start);
+    }
+
+    private PipelineMetrics metrics = new PipelineMetrics();
+
+    public Set<String> declaredClassNames() {
+        return declaredClassNames(resolver.compilationUnit());
+    }
+
+    public static Set<String> declaredClassNames(CompilationUnit compilationUnit) {
+        var declaredClassNames = new HashSet<String>();
+        for(Object type : compilationUnit.types()) {
+            var typeName = ((AbstractTypeDeclaration) type).getName().getIdentifier();
+            if(compilationUnit.getPackage() == null) {
+                declaredClassNames.add(typeName);
+            } else {
+                declaredClassNames.add(compilationUnit.getPackage().getName().getFullyQualifiedName() + "." + typeName);
+            }
+        }
+        return declaredClassNames;
+    }
+
+    public Set<String> referencedClassNames() {
+        return resolver.referencedClassNames();
+    }
+
+    public void includeSourceSymbols(Collection<Path> files, Charset charset) {
+        if(sourceSymbolTable != null) {
+            var declaredNames = sourceSymbolTable.includeFiles(files, charset);
+            declaredNames.forEach(classResolver::invalidate);
+        }
+    }
+
+    public void refreshClassResolution(Collection<String> classNames) {
+        classNames.forEach(classResolver::invalidate);
+        classResolver.refreshPackageIndex();
+    }
+
+    private SourceSymbolTable sourceSymbolTable;
+
     private Object project;
 
     private Source currentSourceFile;
@@ -46,12 +125,16 @@ public class TypeResolvingCompilationUnitVisitor {
             var unit = new ResolvedCompilationUnit.Builder()
                     .withResolver(resolver)
                     .withSourceFile(currentSourceFile)
+                    .withCompilationUnit(node)
                     .build();
             for(ResolvedCompilationUnitVisitor visitor : visitors) {
+                long start = System.nanoTime();
                 try {
                     visitor.visit(unit);
                 } catch (Exception e) {
                     errors.add(e);
+                } finally {
+                    recordVisit(visitor, start);
                 }
             }
             return true;
@@ -71,24 +154,31 @@ public class TypeResolvingCompilationUnitVisitor {
         }
 
         private void pushResolver(TypeDeclaration node) {
-            var typeResolverBuilder = new TypeDeclarationResolver.Builder()
-                    .typeDeclaration(node);
             if(typeDeclarationResolvers.isEmpty()) {
                 var packageName = resolver.compilationUnit().getPackage().getName().getFullyQualifiedName();
                 var typeName = node.getName().getIdentifier();
-                typeResolverBuilder
+                typeDeclarationResolvers.push(new TypeDeclarationResolver.Builder()
+                        .typeDeclaration(node)
                         .parent(resolver)
                         .parentTypeDeclaration(Optional.empty())
-                        .safeClassName(SafeClassName.ofRootClass(new ClassName(packageName + "." + typeName)));
+                        .safeClassName(SafeClassName.ofRootClass(new ClassName(packageName + "." + typeName)))
+                        .build());
             } else {
                 var declaringTypeResolver = typeDeclarationResolvers.peek();
                 var declaringType = declaringTypeResolver.resolvedTypeDeclaration();
-                typeResolverBuilder
-                        .parent(declaringTypeResolver)
-                        .parentTypeDeclaration(Optional.of(declaringType))
-                        .safeClassName(declaringType.unresolvedName().withLastSegment(node.getName().toString()));
+                var innerType = declaringType.innerType(node.getName().getIdentifier())
+                        .filter(candidate -> candidate.typeDeclaration() == node);
+                if(innerType.isPresent()) {
+                    typeDeclarationResolvers.push(innerType.get().resolver());
+                } else {
+                    typeDeclarationResolvers.push(new TypeDeclarationResolver.Builder()
+                            .typeDeclaration(node)
+                            .parent(declaringTypeResolver)
+                            .parentTypeDeclaration(Optional.of(declaringType))
+                            .safeClassName(declaringType.unresolvedName().withLastSegment(node.getName().toString()))
+                            .build());
+                }
             }
-            typeDeclarationResolvers.push(typeResolverBuilder.build());
         }
 
         private Deque<TypeDeclarationResolver> typeDeclarationResolvers = new ArrayDeque<>();
@@ -98,15 +188,21 @@ public class TypeResolvingCompilationUnitVisitor {
         }
 
         private boolean visitTypeDeclarationOrSkip() {
+            if(typeVisitors.isEmpty()) {
+                return hasMemberOnlyVisitors;
+            }
             var resolvedTypeDeclaration = typeDeclarationResolvers.peek().resolvedTypeDeclaration();
-            boolean mustVisitChildren = false;
-            for(ResolvedCompilationUnitVisitor visitor : visitors) {
+            boolean mustVisitChildren = hasMemberOnlyVisitors;
+            for(ResolvedCompilationUnitVisitor visitor : typeVisitors) {
+                long start = System.nanoTime();
                 try {
                     if(visitor.visit(resolvedTypeDeclaration)) {
                         mustVisitChildren = true;
                     }
                 } catch (Exception e) {
                     errors.add(e);
+                } finally {
+                    recordVisit(visitor, start);
                 }
             }
             return mustVisitChildren;
@@ -114,31 +210,46 @@ public class TypeResolvingCompilationUnitVisitor {
 
         @Override
         public void endVisit(TypeDeclaration node) {
-            var resolvedTypeDeclaration = typeDeclarationResolvers.pop().resolvedTypeDeclaration();
-            for(ResolvedCompilationUnitVisitor visitor : visitors) {
+            var typeDeclarationResolver = typeDeclarationResolvers.pop();
+            if(!typeVisitors.isEmpty()) {
+                endVisit(typeDeclarationResolver.resolvedTypeDeclaration());
+            }
+            --typeLevel;
+        }
+
+        private void endVisit(ResolvedTypeDeclaration resolvedTypeDeclaration) {
+            for(ResolvedCompilationUnitVisitor visitor : typeVisitors) {
+                long start = System.nanoTime();
                 try {
                     visitor.endVisit(resolvedTypeDeclaration);
                 } catch (Exception e) {
                     errors.add(e);
+                } finally {
+                    recordVisit(visitor, start);
                 }
             }
-            --typeLevel;
         }
 
         @Override
         public boolean visit(EnumDeclaration node) {
+            if(enumVisitors.isEmpty()) {
+                return false;
+            }
             var resolvedEnumDeclaration = new ResolvedEnumDeclaration.Builder()
                     .withDeclaration(node)
                     .withResolver(resolver)
                     .build();
             boolean mustVisitChildren = false;
-            for(ResolvedCompilationUnitVisitor visitor : visitors) {
+            for(ResolvedCompilationUnitVisitor visitor : enumVisitors) {
+                long start = System.nanoTime();
                 try {
                     if(visitor.visit(resolvedEnumDeclaration)) {
                         mustVisitChildren = true;
                     }
                 } catch (Exception e) {
                     errors.add(e);
+                } finally {
+                    recordVisit(visitor, start);
                 }
             }
             return mustVisitChildren;
@@ -146,20 +257,61 @@ public class TypeResolvingCompilationUnitVisitor {
 
         @Override
         public boolean visit(MethodDeclaration node) {
+            var interestedVisitors = methodVisitors(node);
+            if(interestedVisitors.isEmpty()) {
+                return false;
+            }
             var method = currentResolver().resolve(node);
-            for(ResolvedCompilationUnitVisitor visitor : visitors) {
+            for(ResolvedCompilationUnitVisitor visitor : interestedVisitors) {
+                long start = System.nanoTime();
                 try {
                     visitor.visit(method);
                 } catch (Exception e) {
                     errors.add(e);
+                } finally {
+                    recordVisit(visitor, start);
                 }
             }
             return false;
         }
     };
 
+    private List<ResolvedCompilationUnitVisitor> methodVisitors(MethodDeclaration node) {
+        var interestedVisitors = new ArrayList<ResolvedCompilationUnitVisitor>(visitors.size());
+        for(ResolvedCompilationUnitVisitor visitor : visitors) {
+            if(interests.get(visitor).isInterestedIn(node)) {
+                interestedVisitors.add(visitor);
+            }
+        }
+        return interestedVisitors;
+    }
+
     private List<ResolvedCompilationUnitVisitor> visitors = new ArrayList<>();
 
+    private Map<ResolvedCompilationUnitVisitor, VisitorInterests> interests = new IdentityHashMap<>();
+
+    private List<ResolvedCompilationUnitVisitor> typeVisitors = new ArrayList<>();
+
+    private List<ResolvedCompilationUnitVisitor> enumVisitors = new ArrayList<>();
+
+    private boolean hasMemberOnlyVisitors;
+
+    private void registerInterests() {
+        for(ResolvedCompilationUnitVisitor visitor : visitors) {
+            var visitorInterests = visitor.interests();
+            interests.put(visitor, visitorInterests);
+            if(visitorInterests.isInterestedIn(VisitedNode.TYPE)) {
+                typeVisitors.add(visitor);
+            } else if(visitorInterests.isInterestedIn(VisitedNode.METHOD)
+                    || visitorInterests.isInterestedIn(VisitedNode.ENUM)) {
+                hasMemberOnlyVisitors = true;
+            }
+            if(visitorInterests.isInterestedIn(VisitedNode.ENUM)) {
+                enumVisitors.add(visitor);
+            }
+        }
+    }
+
     private int typeLevel = -1;
 
     public int typeLevel() {
@@ -174,12 +326,60 @@ public class TypeResolvingCompilationUnitVisitor {
 
     public void forget(String sourceId) {
         visitors.forEach(visitor -> visitor.forget(sourceId));
+        if(sourceSymbolTable != null) {
+            sourceSymbolTable.forget(sourceId).forEach(classResolver::invalidate);
+        }
+    }
+
+    public boolean hasCacheableContributions() {
+        return visitors.stream().allMatch(WithCacheableContribution.class::isInstance);
+    }
+
+    public String classResolverKind() {
+        return classResolver.getClass().getName();
+    }
+
+    public String contributorsSignature() {
+        return visitors.stream()
+                .map(visitor -> visitor.getClass().getName())
+                .collect(joining(","));
+    }
+
+    public void startContributions() {
+        cacheableVisitors().forEach(WithCacheableContribution::startContribution);
+    }
+
+    private Stream<WithCacheableContribution> cacheableVisitors() {
+        return visitors.stream().map(WithCacheableContribution.class::cast);
+    }
+
+    public List<Serializable> endContributions() {
+        return cacheableVisitors()
+                .map(WithCacheableContribution::endContribution)
+                .collect(toList());
+    }
+
+    public void replayContributions(List<Serializable> contributions) {
+        if(contributions.size() != visitors.size()) {
+            throw new IllegalArgumentException("Expected " + visitors.size() + " contributions, got "
+                    + contributions.size());
+        }
+        var contributionsIterator = contributions.iterator();
+        cacheableVisitors().forEach(visitor -> visitor.replayContribution(contributionsIterator.next()));
     }
 
     public static class Builder {
 
         public TypeResolvingCompilationUnitVisitor build() {
             requireNonNull(compilationUnitVisitor.classResolver);
+            if(compilationUnitVisitor.sourceSymbolTable != null) {
+                compilationUnitVisitor.classResolver = new SourceClassResolver.Builder()
+                        .symbolTable(compilationUnitVisitor.sourceSymbolTable)
+                        .fallback(compilationUnitVisitor.classResolver)
+                        .build();
+            }
+            requireNonNull(compilationUnitVisitor.metrics);
+            compilationUnitVisitor.registerInterests();
             return compilationUnitVisitor;
         }
 
@@ -190,6 +390,15 @@ public class TypeResolvingCompilationUnitVisitor {
             return this;
         }
 
+        public Builder withSourceClassResolution(boolean sourceClassResolution) {
+            if(sourceClassResolution) {
+                compilationUnitVisitor.sourceSymbolTable = new SourceSymbolTable.Builder().build();
+            } else {
+                compilationUnitVisitor.sourceSymbolTable = null;
+            }
+            return this;
+        }
+
         public Builder withVisitor(ResolvedCompilationUnitVisitor visitor) {
             compilationUnitVisitor.visitors.add(visitor);
             return this;
@@ -199,6 +408,11 @@ public class TypeResolvingCompilationUnitVisitor {
             compilationUnitVisitor.project = project;
             return this;
         }
+
+        public Builder withMetrics(PipelineMetrics metrics) {
+            compilationUnitVisitor.metrics = metrics;
+            return this;
+        }
     }
 
     private TypeResolvingCompilationUnitVisitor() {
@@ -0,0 +1,7 @@
+package poussecafe.source.analysis;
+
+public enum VisitedNode {
+    TYPE,
+    METHOD,
+    ENUM
+}
@@ -0,0 +1,74 @@
+package poussecafe.source.analysis;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import org.eclipse.jdt.core.dom.Annotation;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+
+import static java.util.Objects.requireNonNull;
+
+public class VisitorInterests {
+
+    public static VisitorInterests all() {
+        return new Builder()
+                .node(VisitedNode.TYPE)
+                .node(VisitedNode.METHOD)
+                .node(VisitedNode.ENUM)
+                .build();
+    }
+
+    public boolean isInterestedIn(VisitedNode node) {
+        return nodes.contains(node);
+    }
+
+    private EnumSet<VisitedNode> nodes = EnumSet.noneOf(VisitedNode.class);
+
+    public boolean isInterestedIn(MethodDeclaration method) {
+        if(!isInterestedIn(VisitedNode.METHOD)) {
+            return false;
+        }
+        if(methodAnnotations.isEmpty()) {
+            return true;
+        }
+        for(Object modifier : method.modifiers()) {
+            if(modifier instanceof Annotation) {
+                var annotationName = new ClassName(((Annotation) modifier).getTypeName());
+                if(methodAnnotations.contains(annotationName.simple())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Set<String> methodAnnotations = new HashSet<>();
+
+    public static class Builder {
+
+        private VisitorInterests interests = new VisitorInterests();
+
+        public VisitorInterests build() {
+            if(!interests.methodAnnotations.isEmpty()
+                    && !interests.isInterestedIn(VisitedNode.METHOD)) {
+                throw new IllegalStateException("Method annotations require an interest in methods");
+            }
+            return interests;
+        }
+
+        public Builder node(VisitedNode node) {
+            requireNonNull(node);
+            interests.nodes.add(node);
+            return this;
+        }
+
+        public Builder methodAnnotation(String annotationClassName) {
+            interests.methodAnnotations.add(new ClassName(annotationClassName).simple());
+            return this;
+        }
+    }
+
+    private VisitorInterests() {
+
+    }
+}
@@ -7,12 +7,15 @@ import org.eclipse.core.runtime.preferences.IScopeContext;
 import poussecafe.source.analysis.ClassName;
 import poussecafe.source.generation.tools.CodeFormatterOptionsBuilder;
 import poussecafe.source.generation.tools.CompilationUnitEditor;
+import poussecafe.source.metrics.PipelineMetrics;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Objects.requireNonNull;
 
 public abstract class AbstractCodeGenerator {
 
     protected CompilationUnitEditor compilationUnitEditor(ClassName className) {
+        metrics.recordGeneratedUnit();
         return new CompilationUnitEditor.Builder()
                 .sourceDirectory(sourceDirectory)
                 .packageName(className.getQualifier().toString())
@@ -23,6 +26,17 @@ public abstract class AbstractCodeGenerator {
 
     protected Path sourceDirectory;
 
+    public PipelineMetrics metrics() {
+        return metrics;
+    }
+
+    public void metrics(PipelineMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    protected PipelineMetrics metrics = new PipelineMetrics();
+
     protected Map<String, String> formatterOptions = emptyMap();
 
     protected void loadProfileFromFile(Path profilesFile) {
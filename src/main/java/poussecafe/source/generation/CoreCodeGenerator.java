@@ -14,6 +14,7 @@ import poussecafe.source.generation.tools.CompilationUnitEditor;
 import poussecafe.source.generation.tools.DefaultInsertionMode;
 import poussecafe.source.generation.tools.InsertionMode;
 import poussecafe.source.generation.tools.TypeDeclarationEditor;
+import poussecafe.source.metrics.PipelineMetrics;
 import poussecafe.source.model.Aggregate;
 import poussecafe.source.model.Command;
 import poussecafe.source.model.DomainEvent;
@@ -26,8 +27,10 @@ import static java.util.Objects.requireNonNull;
 public class CoreCodeGenerator extends AbstractCodeGenerator {
 
     public void generate(SourceModel newModel) {
+        long startTime = System.nanoTime();
         var fixedModel = currentModel.fixPackageNames(newModel);
         generateWithFixedModel(fixedModel);
+        metrics.recordGeneration(getClass().getName(), System.nanoTime() - startTime);
     }
 
     private void generateWithFixedModel(SourceModel fixedModel) {
@@ -438,6 +441,11 @@ public class CoreCodeGenerator extends AbstractCodeGenerator {
             return this;
         }
 
+        public Builder metrics(PipelineMetrics metrics) {
+            generator.metrics(metrics);
+            return this;
+        }
+
         public Builder classResolver(ClassResolver classResolver) {
             this.classResolver = classResolver;
             return this;
@@ -8,8 +8,10 @@ import poussecafe.source.model.Aggregate;
 public abstract class StorageAdaptersCodeGenerator extends AbstractCodeGenerator {
 
     public void generate(Aggregate aggregate) {
+        long startTime = System.nanoTime();
         updateDefaultAttributesImplementation(aggregate);
         addDataAccessImplementation(aggregate);
+        metrics.recordGeneration(getClass().getName(), System.nanoTime() - startTime);
     }
 
     private void updateDefaultAttributesImplementation(Aggregate aggregate) {
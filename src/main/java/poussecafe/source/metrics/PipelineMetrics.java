@@ -0,0 +1,157 @@
+package poussecafe.source.metrics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+public class PipelineMetrics {
+
+    public void addListener(PipelineMetricsListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    private List<PipelineMetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    public void recordRead(String sourceId, long bytes, long durationNanos) {
+        bytesRead.add(bytes);
+        readNanos.add(durationNanos);
+        notifyPhaseCompleted(PipelinePhase.READ, sourceId, durationNanos);
+    }
+
+    private void notifyPhaseCompleted(PipelinePhase phase, String subject, long durationNanos) {
+        for(PipelineMetricsListener listener : listeners) {
+            listener.phaseCompleted(phase, subject, durationNanos);
+        }
+    }
+
+    private LongAdder bytesRead = new LongAdder();
+
+    private LongAdder readNanos = new LongAdder();
+
+    public void recordParse(String sourceId, long durationNanos) {
+        parsedUnits.increment();
+        parseNanos.add(durationNanos);
+        notifyPhaseCompleted(PipelinePhase.PARSE, sourceId, durationNanos);
+    }
+
+    private LongAdder parsedUnits = new LongAdder();
+
+    private LongAdder parseNanos = new LongAdder();
+
+    public void recordResolution(boolean hit) {
+        resolutionCalls.increment();
+        if(hit) {
+            resolutionHits.increment();
+        }
+    }
+
+    private LongAdder resolutionCalls = new LongAdder();
+
+    private LongAdder resolutionHits = new LongAdder();
+
+    public void recordClassLookup() {
+        classLookups.increment();
+    }
+
+    private LongAdder classLookups = new LongAdder();
+
+    public void recordVisit(String visitorName, long durationNanos) {
+        visitorNanos.computeIfAbsent(visitorName, key -> new LongAdder()).add(durationNanos);
+    }
+
+    private Map<String, LongAdder> visitorNanos = new ConcurrentHashMap<>();
+
+    public void recordVisitedUnit(String sourceId, long durationNanos) {
+        visitedUnits.increment();
+        notifyPhaseCompleted(PipelinePhase.VISIT, sourceId, durationNanos);
+    }
+
+    private LongAdder visitedUnits = new LongAdder();
+
+    public void recordScan(String sourceDirectory, int scannedFiles, int skippedFiles, long durationNanos) {
+        this.scannedFiles.add(scannedFiles);
+        this.skippedFiles.add(skippedFiles);
+        scanNanos.add(durationNanos);
+        notifyPhaseCompleted(PipelinePhase.SCAN, sourceDirectory, durationNanos);
+    }
+
+    private LongAdder scannedFiles = new LongAdder();
+
+    private LongAdder skippedFiles = new LongAdder();
+
+    private LongAdder scanNanos = new LongAdder();
+
+    public void recordAnalysisCacheAccess(boolean hit) {
+        if(hit) {
+            analysisCacheHits.increment();
+        } else {
+            analysisCacheMisses.increment();
+        }
+    }
+
+    private LongAdder analysisCacheHits = new LongAdder();
+
+    private LongAdder analysisCacheMisses = new LongAdder();
+
+    public void recordValidation(String validatorName, long durationNanos) {
+        validationNanos.computeIfAbsent(validatorName, key -> new LongAdder()).add(durationNanos);
+        notifyPhaseCompleted(PipelinePhase.VALIDATION, validatorName, durationNanos);
+    }
+
+    private Map<String, LongAdder> validationNanos = new ConcurrentHashMap<>();
+
+    public void recordGeneratedUnit() {
+        generatedUnits.increment();
+    }
+
+    private LongAdder generatedUnits = new LongAdder();
+
+    public void recordGeneration(String subject, long durationNanos) {
+        generationNanos.add(durationNanos);
+        notifyPhaseCompleted(PipelinePhase.GENERATION, subject, durationNanos);
+    }
+
+    private LongAdder generationNanos = new LongAdder();
+
+    public PipelineMetricsSnapshot snapshot() {
+        return new PipelineMetricsSnapshot.Builder()
+                .scannedFiles(scannedFiles.sum())
+                .skippedFiles(skippedFiles.sum())
+                .scanNanos(scanNanos.sum())
+                .bytesRead(bytesRead.sum())
+                .readNanos(readNanos.sum())
+                .parsedUnits(parsedUnits.sum())
+                .parseNanos(parseNanos.sum())
+                .resolutionCalls(resolutionCalls.sum())
+                .resolutionHits(resolutionHits.sum())
+                .classLookups(classLookups.sum())
+                .visitedUnits(visitedUnits.sum())
+                .visitorNanos(sums(visitorNanos))
+                .analysisCacheHits(analysisCacheHits.sum())
+                .analysisCacheMisses(analysisCacheMisses.sum())
+                .validationNanos(sums(validationNanos))
+                .generatedUnits(generatedUnits.sum())
+                .generationNanos(generationNanos.sum())
+                .build();
+    }
+
+    private Map<String, Long> sums(Map<String, LongAdder> adders) {
+        var sums = new HashMap<String, Long>();
+        adders.forEach((key, adder) -> sums.put(key, adder.sum()));
+        return sums;
+    }
+
+    public PipelineMetricsSnapshot publish() {
+        var snapshot = snapshot();
+        for(PipelineMetricsListener listener : listeners) {
+            listener.snapshotPublished(snapshot);
+        }
+        return snapshot;
+    }
+}
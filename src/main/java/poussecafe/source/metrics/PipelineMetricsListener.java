@@ -0,0 +1,12 @@
+package poussecafe.source.metrics;
+
+public interface PipelineMetricsListener {
+
+    default void phaseCompleted(PipelinePhase phase, String subject, long durationNanos) {
+
+    }
+
+    default void snapshotPublished(PipelineMetricsSnapshot snapshot) {
+
+    }
+}
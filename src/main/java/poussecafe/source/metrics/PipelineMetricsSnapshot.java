@@ -0,0 +1,227 @@
+package poussecafe.source.metrics;
+
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+public class PipelineMetricsSnapshot {
+
+    public long scannedFiles() {
+        return scannedFiles;
+    }
+
+    private long scannedFiles;
+
+    public long skippedFiles() {
+        return skippedFiles;
+    }
+
+    private long skippedFiles;
+
+    public long scanNanos() {
+        return scanNanos;
+    }
+
+    private long scanNanos;
+
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    private long bytesRead;
+
+    public long readNanos() {
+        return readNanos;
+    }
+
+    private long readNanos;
+
+    public long parsedUnits() {
+        return parsedUnits;
+    }
+
+    private long parsedUnits;
+
+    public long parseNanos() {
+        return parseNanos;
+    }
+
+    private long parseNanos;
+
+    public long resolutionCalls() {
+        return resolutionCalls;
+    }
+
+    private long resolutionCalls;
+
+    public long resolutionHits() {
+        return resolutionHits;
+    }
+
+    private long resolutionHits;
+
+    public long classLookups() {
+        return classLookups;
+    }
+
+    private long classLookups;
+
+    public double resolutionHitRate() {
+        return rate(resolutionHits, resolutionCalls);
+    }
+
+    private double rate(long part, long total) {
+        if(total == 0) {
+            return 0;
+        } else {
+            return (double) part / total;
+        }
+    }
+
+    public long visitedUnits() {
+        return visitedUnits;
+    }
+
+    private long visitedUnits;
+
+    public Map<String, Long> visitorNanos() {
+        return visitorNanos;
+    }
+
+    private Map<String, Long> visitorNanos;
+
+    public long analysisCacheHits() {
+        return analysisCacheHits;
+    }
+
+    private long analysisCacheHits;
+
+    public long analysisCacheMisses() {
+        return analysisCacheMisses;
+    }
+
+    private long analysisCacheMisses;
+
+    public double analysisCacheHitRate() {
+        return rate(analysisCacheHits, analysisCacheHits + analysisCacheMisses);
+    }
+
+    public Map<String, Long> validationNanos() {
+        return validationNanos;
+    }
+
+    private Map<String, Long> validationNanos;
+
+    public long generatedUnits() {
+        return generatedUnits;
+    }
+
+    private long generatedUnits;
+
+    public long generationNanos() {
+        return generationNanos;
+    }
+
+    private long generationNanos;
+
+    public static class Builder {
+
+        private PipelineMetricsSnapshot snapshot = new PipelineMetricsSnapshot();
+
+        public PipelineMetricsSnapshot build() {
+            requireNonNull(snapshot.visitorNanos);
+            requireNonNull(snapshot.validationNanos);
+            return snapshot;
+        }
+
+        public Builder scannedFiles(long scannedFiles) {
+            snapshot.scannedFiles = scannedFiles;
+            return this;
+        }
+
+        public Builder skippedFiles(long skippedFiles) {
+            snapshot.skippedFiles = skippedFiles;
+            return this;
+        }
+
+        public Builder scanNanos(long scanNanos) {
+            snapshot.scanNanos = scanNanos;
+            return this;
+        }
+
+        public Builder bytesRead(long bytesRead) {
+            snapshot.bytesRead = bytesRead;
+            return this;
+        }
+
+        public Builder readNanos(long readNanos) {
+            snapshot.readNanos = readNanos;
+            return this;
+        }
+
+        public Builder parsedUnits(long parsedUnits) {
+            snapshot.parsedUnits = parsedUnits;
+            return this;
+        }
+
+        public Builder parseNanos(long parseNanos) {
+            snapshot.parseNanos = parseNanos;
+            return this;
+        }
+
+        public Builder resolutionCalls(long resolutionCalls) {
+            snapshot.resolutionCalls = resolutionCalls;
+            return this;
+        }
+
+        public Builder resolutionHits(long resolutionHits) {
+            snapshot.resolutionHits = resolutionHits;
+            return this;
+        }
+
+        public Builder classLookups(long classLookups) {
+            snapshot.classLookups = classLookups;
+            return this;
+        }
+
+        public Builder visitedUnits(long visitedUnits) {
+            snapshot.visitedUnits = visitedUnits;
+            return this;
+        }
+
+        public Builder analysisCacheHits(long analysisCacheHits) {
+            snapshot.analysisCacheHits = analysisCacheHits;
+            return this;
+        }
+
+        public Builder analysisCacheMisses(long analysisCacheMisses) {
+            snapshot.analysisCacheMisses = analysisCacheMisses;
+            return this;
+        }
+
+        public Builder generatedUnits(long generatedUnits) {
+            snapshot.generatedUnits = generatedUnits;
+            return this;
+        }
+
+        public Builder generationNanos(long generationNanos) {
+            snapshot.generationNanos = generationNanos;
+            return this;
+        }
+
+        public Builder visitorNanos(Map<String, Long> visitorNanos) {
+            snapshot.visitorNanos = unmodifiableMap(visitorNanos);
+            return this;
+        }
+
+        public Builder validationNanos(Map<String, Long> validationNanos) {
+            snapshot.validationNanos = unmodifiableMap(validationNanos);
+            return this;
+        }
+    }
+
+    private PipelineMetricsSnapshot() {
+
+    }
+}
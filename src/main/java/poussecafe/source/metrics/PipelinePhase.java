@@ -0,0 +1,10 @@
+package poussecafe.source.metrics;
+
+public enum PipelinePhase {
+    READ,
+    PARSE,
+    VISIT,
+    SCAN,
+    VALIDATION,
+    GENERATION
+}
@@ -5,9 +5,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
@@ -117,8 +119,11 @@ public class SourceModelBuilder implements Serializable {
 
     public void replaceCommand(Command command) {
         commands.put(command.simpleName(), command);
+        definedCommands.add(command.simpleName());
     }
 
+    private Set<String> definedCommands = new HashSet<>();
+
     public void addEventIfAbsent(DomainEvent event) {
         var existingEvent = events.get(event.simpleName());
         if(existingEvent == null) {
@@ -141,8 +146,11 @@ public class SourceModelBuilder implements Serializable {
 
     public void replaceDomainEvent(DomainEvent event) {
         events.put(event.simpleName(), event);
+        definedEvents.add(event.simpleName());
     }
 
+    private Set<String> definedEvents = new HashSet<>();
+
     public void addRunner(Runner runnerClass) {
         runners.put(runnerClass.className(), runnerClass);
     }
@@ -187,6 +195,8 @@ public class SourceModelBuilder implements Serializable {
         forgetTypeComponents(sourceId, entities);
         forgetTypeComponents(sourceId, valueObjects);
         forgetTypeComponents(sourceId, services);
+        definedCommands.retainAll(commands.keySet());
+        definedEvents.retainAll(events.keySet());
     }
 
     private <T extends WithTypeComponent> void forget(
@@ -201,6 +211,35 @@ public class SourceModelBuilder implements Serializable {
         components.removeIf(component -> component.source().id().equals(sourceId));
     }
 
+    public void merge(SourceModelBuilder contribution) {
+        aggregates.putAll(contribution.aggregates);
+        standaloneAggregateRoots.putAll(contribution.standaloneAggregateRoots);
+        standaloneAggregateFactories.putAll(contribution.standaloneAggregateFactories);
+        standaloneAggregateRepositories.putAll(contribution.standaloneAggregateRepositories);
+        aggregateContainers.putAll(contribution.aggregateContainers);
+        contribution.processesBySourceId.values().forEach(this::addProcess);
+        listeners.addAll(contribution.listeners);
+        for(Command command : contribution.commands.values()) {
+            if(contribution.definedCommands.contains(command.simpleName())) {
+                replaceCommand(command);
+            } else {
+                addCommandIfAbsent(command);
+            }
+        }
+        for(DomainEvent event : contribution.events.values()) {
+            if(contribution.definedEvents.contains(event.simpleName())) {
+                replaceDomainEvent(event);
+            } else {
+                addEventIfAbsent(event);
+            }
+        }
+        runners.putAll(contribution.runners);
+        modules.addAll(contribution.modules);
+        entities.addAll(contribution.entities);
+        valueObjects.addAll(contribution.valueObjects);
+        services.addAll(contribution.services);
+    }
+
     public SourceModel build() {
         var model = new SourceModel();
         modules.forEach(model::addModule);
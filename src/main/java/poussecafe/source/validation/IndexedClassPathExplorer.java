@@ -0,0 +1,54 @@
+package poussecafe.source.validation;
+
+import java.util.Optional;
+import java.util.Set;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.ClassName;
+import poussecafe.source.analysis.ClassPathSubtypeIndex;
+import poussecafe.source.analysis.ClassResolver;
+import poussecafe.source.analysis.ResolvedClass;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toSet;
+
+public class IndexedClassPathExplorer implements ClassPathExplorer {
+
+    @Override
+    public Set<ResolvedClass> getSubTypesOf(ClassName superTypeName) {
+        return index.subtypesOf(superTypeName.qualified()).stream()
+                .map(subtypeName -> resolver.loadClass(new ClassName(subtypeName)))
+                .flatMap(Optional::stream)
+                .collect(toSet());
+    }
+
+    private ClassPathSubtypeIndex index;
+
+    private ClassResolver resolver;
+
+    public static class Builder {
+
+        public IndexedClassPathExplorer build() {
+            requireNonNull(explorer.index);
+            if(explorer.resolver == null) {
+                explorer.resolver = new ClassLoaderClassResolver();
+            }
+            return explorer;
+        }
+
+        private IndexedClassPathExplorer explorer = new IndexedClassPathExplorer();
+
+        public Builder index(ClassPathSubtypeIndex index) {
+            explorer.index = index;
+            return this;
+        }
+
+        public Builder resolver(ClassResolver resolver) {
+            explorer.resolver = resolver;
+            return this;
+        }
+    }
+
+    private IndexedClassPathExplorer() {
+
+    }
+}
@@ -17,10 +17,7 @@ public class ReflectionsClassPathExplorer implements ClassPathExplorer {
         var resolvedClass = resolver.loadClass(resolvedClassQualifiedName).orElseThrow();
         var classLoaderResolvedClass = (ClassLoaderResolvedClass) resolvedClass;
         return reflections.getSubTypesOf(classLoaderResolvedClass.classObject()).stream()
-                .map(classObject -> new ClassLoaderResolvedClass.Builder()
-                        .classObject(classObject)
-                        .classResolver((ClassLoaderClassResolver) classLoaderResolvedClass.resolver())
-                        .build())
+                .map(classObject -> (ResolvedClass) resolver.resolvedClass(classObject))
                 .collect(toSet());
     }
 
@@ -1,6 +1,8 @@
 package poussecafe.source.validation;
 
+import poussecafe.source.ScannerConfiguration;
 import poussecafe.source.SingleVisitorScanner;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
 import poussecafe.source.analysis.ClassResolver;
 import poussecafe.source.analysis.ResolvedCompilationUnitVisitor;
 import poussecafe.source.validation.model.ValidationModel;
@@ -26,4 +28,29 @@ public class ValidationModelBuilder extends SingleVisitorScanner {
     public ValidationModelBuilder(ClassResolver classResolver) {
         super(classResolver);
     }
+
+    public ValidationModelBuilder(ClassResolver classResolver, ScannerConfiguration configuration) {
+        super(classResolver, configuration);
+    }
+
+    public static class Builder {
+
+        public ValidationModelBuilder build() {
+            return new ValidationModelBuilder(classResolver, configuration);
+        }
+
+        private ClassResolver classResolver = new ClassLoaderClassResolver();
+
+        private ScannerConfiguration configuration = ScannerConfiguration.defaultConfiguration();
+
+        public Builder classResolver(ClassResolver classResolver) {
+            this.classResolver = classResolver;
+            return this;
+        }
+
+        public Builder configuration(ScannerConfiguration configuration) {
+            this.configuration = configuration;
+            return this;
+        }
+    }
 }
@@ -2,11 +2,12 @@ package poussecafe.source.validation;
 
 import java.io.Serializable;
 import java.util.Optional;
+import poussecafe.source.WithCacheableContribution;
 import poussecafe.source.WithPersistableState;
-import poussecafe.source.analysis.AggregateContainerClass;
 import poussecafe.source.analysis.AggregateRootClass;
 import poussecafe.source.analysis.ClassName;
 import poussecafe.source.analysis.CompilationUnitResolver;
+import poussecafe.source.analysis.ComponentKind;
 import poussecafe.source.analysis.DataAccessImplementationType;
 import poussecafe.source.analysis.EntityDefinitionType;
 import poussecafe.source.analysis.EntityImplementationType;
@@ -24,6 +25,8 @@ import poussecafe.source.analysis.ResolvedTypeDeclaration;
 import poussecafe.source.analysis.ResolvedTypeName;
 import poussecafe.source.analysis.RunnerClass;
 import poussecafe.source.analysis.Visibility;
+import poussecafe.source.analysis.VisitedNode;
+import poussecafe.source.analysis.VisitorInterests;
 import poussecafe.source.model.MessageListenerContainerType;
 import poussecafe.source.model.MessageType;
 import poussecafe.source.model.TypeComponent;
@@ -43,7 +46,18 @@ import poussecafe.source.validation.model.ValidationModel;
 
 import static java.util.Arrays.asList;
 
-public class ValidationModelBuilderVisitor implements ResolvedCompilationUnitVisitor, WithPersistableState {
+public class ValidationModelBuilderVisitor implements ResolvedCompilationUnitVisitor, WithPersistableState,
+        WithCacheableContribution {
+
+    @Override
+    public VisitorInterests interests() {
+        return new VisitorInterests.Builder()
+                .node(VisitedNode.TYPE)
+                .node(VisitedNode.METHOD)
+                .methodAnnotation(CompilationUnitResolver.MESSAGE_LISTENER_ANNOTATION_CLASS)
+                .methodAnnotation(CompilationUnitResolver.PRODUCES_EVENT_ANNOTATION_CLASS)
+                .build();
+    }
 
     @Override
     public boolean visit(ResolvedCompilationUnit unit) {
@@ -55,37 +69,38 @@ public class ValidationModelBuilderVisitor implements ResolvedCompilationUnitVis
 
     @Override
     public boolean visit(ResolvedTypeDeclaration resolvedTypeDeclaration) {
-        if(MessageDefinitionType.isMessageDefinition(resolvedTypeDeclaration)
-                || MessageImplementationType.isMessageImplementation(resolvedTypeDeclaration)) {
-            if(MessageDefinitionType.isMessageDefinition(resolvedTypeDeclaration)) {
+        var classification = resolvedTypeDeclaration.classification();
+        if(classification.is(ComponentKind.MESSAGE_DEFINITION)
+                || classification.is(ComponentKind.MESSAGE_IMPLEMENTATION)) {
+            if(classification.is(ComponentKind.MESSAGE_DEFINITION)) {
                 visitMessageDefinition(resolvedTypeDeclaration);
             }
-            if(MessageImplementationType.isMessageImplementation(resolvedTypeDeclaration)) {
+            if(classification.is(ComponentKind.MESSAGE_IMPLEMENTATION)) {
                 visitMessageImplementation(resolvedTypeDeclaration);
             }
-        } else if(EntityDefinitionType.isEntityDefinition(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.ENTITY_DEFINITION)) {
             visitEntityDefinition(resolvedTypeDeclaration);
-            if(AggregateRootClass.isAggregateRoot(resolvedTypeDeclaration)) {
+            if(classification.is(ComponentKind.AGGREGATE_ROOT)) {
                 visitAggregateRootDefinition(resolvedTypeDeclaration);
             }
-        } else if(EntityImplementationType.isEntityImplementation(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.ENTITY_IMPLEMENTATION)) {
             visitEntityImplementation(resolvedTypeDeclaration);
-        } else if(DataAccessImplementationType.isDataAccessImplementation(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.DATA_ACCESS_IMPLEMENTATION)) {
             visitDataAccessImplementation(resolvedTypeDeclaration);
-        } else if(RunnerClass.isRunner(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.RUNNER)) {
             visitRunner(resolvedTypeDeclaration);
-        } else if(ModuleClass.isModule(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.MODULE)) {
             visitModule(resolvedTypeDeclaration);
-        } else if(ProcessDefinitionType.isProcessDefinition(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.PROCESS_DEFINITION)) {
             visitProcessDefinition(resolvedTypeDeclaration);
-        } else if(FactoryClass.isFactory(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.FACTORY)) {
             visitAggregateFactory(resolvedTypeDeclaration);
-        } else if(RepositoryClass.isRepository(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.REPOSITORY)) {
             visitAggregateRepository(resolvedTypeDeclaration);
-        } else if(AggregateContainerClass.isAggregateContainerClass(resolvedTypeDeclaration)) {
+        } else if(classification.is(ComponentKind.AGGREGATE_CONTAINER)) {
             visitAggregateContainer(resolvedTypeDeclaration);
         }
-        return MessageListenerMethod.isMessageListenerMethodContainer(resolvedTypeDeclaration);
+        return classification.isMessageListenerContainer();
     }
 
     private void visitMessageDefinition(ResolvedTypeDeclaration resolvedTypeDeclaration) {
@@ -239,11 +254,12 @@ public class ValidationModelBuilderVisitor implements ResolvedCompilationUnitVis
     }
 
     private MessageListenerContainerType messageListenerContainerType(ResolvedTypeDeclaration declaringType) {
-        if(AggregateRootClass.isAggregateRoot(declaringType)) {
+        var classification = declaringType.classification();
+        if(classification.is(ComponentKind.AGGREGATE_ROOT)) {
             return declaringType.isInnerClass() ? MessageListenerContainerType.INNER_ROOT : MessageListenerContainerType.STANDALONE_ROOT;
-        } else if(FactoryClass.isFactory(declaringType)) {
+        } else if(classification.is(ComponentKind.FACTORY)) {
             return declaringType.isInnerClass() ? MessageListenerContainerType.INNER_FACTORY : MessageListenerContainerType.STANDALONE_FACTORY;
-        } else if(RepositoryClass.isRepository(declaringType)) {
+        } else if(classification.is(ComponentKind.REPOSITORY)) {
             return declaringType.isInnerClass() ? MessageListenerContainerType.INNER_REPOSITORY : MessageListenerContainerType.STANDALONE_REPOSITORY;
         } else {
             return MessageListenerContainerType.OTHER;
@@ -268,4 +284,32 @@ public class ValidationModelBuilderVisitor implements ResolvedCompilationUnitVis
     public void loadSerializedState(Serializable state) {
         model = (ValidationModel) state;
     }
+
+    @Override
+    public void startContribution() {
+        if(mainState != null) {
+            throw new IllegalStateException("Contribution already started");
+        }
+        mainState = model;
+        model = new ValidationModel();
+    }
+
+    private ValidationModel mainState;
+
+    @Override
+    public Serializable endContribution() {
+        if(mainState == null) {
+            throw new IllegalStateException("No contribution started");
+        }
+        var contribution = model;
+        model = mainState;
+        mainState = null;
+        model.merge(contribution);
+        return contribution;
+    }
+
+    @Override
+    public void replayContribution(Serializable contribution) {
+        model.merge((ValidationModel) contribution);
+    }
 }
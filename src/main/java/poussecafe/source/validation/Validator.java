@@ -1,15 +1,19 @@
 package poussecafe.source.validation;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import poussecafe.source.analysis.ClassLoaderClassResolver;
 import poussecafe.source.analysis.ClassResolver;
 import poussecafe.source.analysis.CompilationUnitResolver;
 import poussecafe.source.analysis.ClassName;
+import poussecafe.source.analysis.ClassPathSubtypeIndex;
 import poussecafe.source.analysis.ResolvedClass;
+import poussecafe.source.metrics.PipelineMetrics;
 import poussecafe.source.validation.entity.EntityValidator;
 import poussecafe.source.validation.listener.MessageListenerValidator;
 import poussecafe.source.validation.message.MessageValidator;
@@ -29,17 +33,24 @@ public class Validator {
             enrichModelWithClassPathComponents();
             buildValidators();
             for(SubValidator validator : validators) {
-                long startTime = System.currentTimeMillis();
+                long startTime = System.nanoTime();
                 runAndIncludeMessages(validator);
-                long endTime = System.currentTimeMillis();
+                long duration = System.nanoTime() - startTime;
+                metrics.recordValidation(validator.name(), duration);
                 if(logger.isDebugEnabled()) {
-                    logger.debug("{} validation took {} ms", validator.name(), (endTime - startTime));
+                    logger.debug("{} validation took {} ms", validator.name(), TimeUnit.NANOSECONDS.toMillis(duration));
                 }
             }
             result = new ValidationResult(messages);
         }
     }
 
+    private PipelineMetrics metrics;
+
+    public PipelineMetrics metrics() {
+        return metrics;
+    }
+
     private ValidationModel model;
 
     private void enrichModelWithClassPathComponents() {
@@ -94,6 +105,15 @@ public class Validator {
                 validator.classResolver = new ClassLoaderClassResolver();
             }
 
+            if(validator.metrics == null) {
+                validator.metrics = new PipelineMetrics();
+            }
+
+            if(validator.classPathExplorer.isEmpty()) {
+                validator.classPathExplorer = validator.classResolver.classPath()
+                        .map(this::indexedClassPathExplorer);
+            }
+
             validator.storageTypesValidators.forEach(this::initValidator);
 
             return validator;
@@ -101,6 +121,17 @@ public class Validator {
 
         private Validator validator = new Validator();
 
+        private ClassPathExplorer indexedClassPathExplorer(List<Path> classPath) {
+            var index = new ClassPathSubtypeIndex.Builder()
+                    .classPath(classPath)
+                    .cacheDirectory(subtypeIndexCacheDirectory)
+                    .build();
+            return new IndexedClassPathExplorer.Builder()
+                    .index(index)
+                    .resolver(validator.classResolver)
+                    .build();
+        }
+
         private void initValidator(StorageTypesValidator storageValidator) {
             storageValidator.setModel(validator.model);
             storageValidator.setClassResolver(validator.classResolver);
@@ -121,6 +152,18 @@ public class Validator {
             return this;
         }
 
+        public Builder subtypeIndexCacheDirectory(Path subtypeIndexCacheDirectory) {
+            this.subtypeIndexCacheDirectory = subtypeIndexCacheDirectory;
+            return this;
+        }
+
+        private Path subtypeIndexCacheDirectory;
+
+        public Builder metrics(PipelineMetrics metrics) {
+            validator.metrics = metrics;
+            return this;
+        }
+
         public Builder storageTypesValidator(StorageTypesValidator storageTypesValidator) {
             requireNonNull(storageTypesValidator);
             validator.storageTypesValidators.add(storageTypesValidator);
@@ -94,16 +94,9 @@ public class MessageListenerValidator extends SubValidator {
     }
 
     private boolean isMessage(ClassName consumedMessageClass) {
-        var messageClass = resolver.loadClass(consumedMessageClass);
-        if(messageClass.isPresent()) {
-            try {
-                return messageClass.get().instanceOf(CompilationUnitResolver.MESSAGE_CLASS);
-            } catch (ClassNotFoundException e) {
-                return false;
-            }
-        } else {
-            return false;
-        }
+        return resolver.loadClass(consumedMessageClass)
+                .map(messageClass -> messageClass.subtypeOf(CompilationUnitResolver.MESSAGE_CLASS))
+                .orElse(false);
     }
 
     private ClassResolver resolver;
@@ -219,6 +219,22 @@ public class ValidationModel implements Serializable {
         return Collections.unmodifiableList(ignoredProducesEventAnnotations);
     }
 
+    public void merge(ValidationModel contribution) {
+        contribution.messageDefinitions.forEach(this::addMessageDefinition);
+        contribution.messageImplementations.forEach(this::addMessageImplementation);
+        contribution.entityDefinitions.forEach(this::addEntityDefinition);
+        contribution.entityImplementations.forEach(this::addEntityImplementation);
+        contribution.listeners.forEach(this::addMessageListener);
+        contribution.runners.values().forEach(this::addRunner);
+        contribution.modules.values().forEach(this::addModule);
+        contribution.processDefinitions.forEach(this::addProcessDefinition);
+        contribution.aggregateRoots.forEach(this::addAggregateRoot);
+        contribution.aggregateFactories.forEach(this::addAggregateFactory);
+        contribution.aggregateRepositories.forEach(this::addAggregateRepository);
+        contribution.aggregateContainers.forEach(this::addAggregateContainer);
+        contribution.ignoredProducesEventAnnotations.forEach(this::addIgnoredProducesEventAnnotation);
+    }
+
     @Override
     public boolean equals(Object obj) {
         return referenceEquals(this, obj).orElse(other -> new EqualsBuilder()
@@ -0,0 +1,167 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.SourceModelBuilder;
+import poussecafe.source.model.SourceModel;
+import poussecafe.source.validation.ValidationModelBuilder;
+import poussecafe.source.validation.model.ValidationModel;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AnalysisCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void cachedContributionsBuildSameSourceModel() throws IOException {
+        givenCache();
+        givenUncachedSourceModel();
+        givenCachePopulatedBySourceModel();
+        whenBuildingSourceModelFromCache();
+        thenSourceModelsEquivalent();
+    }
+
+    private void givenCache() throws IOException {
+        cache = new AnalysisCache.Builder()
+                .directory(folder.newFolder("cache").toPath())
+                .fingerprint("test")
+                .build();
+    }
+
+    private AnalysisCache cache;
+
+    private void givenUncachedSourceModel() throws IOException {
+        var builder = new SourceModelBuilder(new ClassLoaderClassResolver());
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        uncachedSourceModel = builder.build();
+    }
+
+    private SourceModel uncachedSourceModel;
+
+    private void givenCachePopulatedBySourceModel() throws IOException {
+        cachingSourceModelBuilder().includeTree(DiscoveryTest.testModelDirectory);
+        assertThat(cache.hits(), equalTo(0L));
+        assertTrue(cache.writes() > 0);
+    }
+
+    private SourceModelBuilder cachingSourceModelBuilder() {
+        return new SourceModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .configuration(cachingConfiguration())
+                .build();
+    }
+
+    private ScannerConfiguration cachingConfiguration() {
+        return new ScannerConfiguration.Builder()
+                .analysisCache(cache)
+                .build();
+    }
+
+    private void whenBuildingSourceModelFromCache() throws IOException {
+        var builder = cachingSourceModelBuilder();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        cachedSourceModel = builder.build();
+    }
+
+    private SourceModel cachedSourceModel;
+
+    private void thenSourceModelsEquivalent() {
+        assertThat(cache.hits(), equalTo(cache.writes()));
+        new ModelAssertions(cachedSourceModel).thenEquivalentTo(uncachedSourceModel);
+    }
+
+    @Test
+    public void cachedContributionsBuildSameValidationModel() throws IOException {
+        givenCache();
+        givenUncachedValidationModel();
+        givenCachePopulatedByValidationModel();
+        whenBuildingValidationModelFromCache();
+        thenValidationModelsEqual();
+    }
+
+    private void givenUncachedValidationModel() throws IOException {
+        var builder = new ValidationModelBuilder(new ClassLoaderClassResolver());
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        uncachedValidationModel = builder.build();
+    }
+
+    private ValidationModel uncachedValidationModel;
+
+    private void givenCachePopulatedByValidationModel() throws IOException {
+        cachingValidationModelBuilder().includeTree(DiscoveryTest.testModelDirectory);
+    }
+
+    private ValidationModelBuilder cachingValidationModelBuilder() {
+        return new ValidationModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .configuration(cachingConfiguration())
+                .build();
+    }
+
+    private void whenBuildingValidationModelFromCache() throws IOException {
+        var builder = cachingValidationModelBuilder();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        cachedValidationModel = builder.build();
+    }
+
+    private ValidationModel cachedValidationModel;
+
+    private void thenValidationModelsEqual() {
+        assertThat(cache.hits(), equalTo(cache.writes()));
+        assertEquals(uncachedValidationModel, cachedValidationModel);
+    }
+
+    @Test
+    public void dependentsAreReanalyzedDespiteCachedContributions() throws IOException {
+        givenCache();
+        var builder = cachingSourceModelBuilder();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        long hitsBeforeUpdate = cache.hits();
+        builder.update(List.of(DiscoveryTest.testModelDirectory.resolve("commands/Command2.java")));
+        assertThat(cache.hits(), equalTo(hitsBeforeUpdate + 1));
+    }
+
+    @Test
+    public void changedDependencyInvalidatesCachedContributions() throws IOException {
+        givenCache();
+        givenCopiedTestModel();
+        cachingSourceModelBuilder().includeTree(copiedTestModel);
+        long writesBeforeChange = cache.writes();
+        whenChangingDependency();
+        cachingSourceModelBuilder().includeTree(copiedTestModel);
+        assertThat(cache.hits(), equalTo(writesBeforeChange - 2));
+    }
+
+    private void givenCopiedTestModel() throws IOException {
+        copiedTestModel = folder.newFolder("testmodel").toPath();
+        try(var files = Files.walk(DiscoveryTest.testModelDirectory)) {
+            for(Path file : (Iterable<Path>) files::iterator) {
+                var target = copiedTestModel.resolve(DiscoveryTest.testModelDirectory.relativize(file).toString());
+                if(Files.isDirectory(file)) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.copy(file, target);
+                }
+            }
+        }
+    }
+
+    private Path copiedTestModel;
+
+    private void whenChangingDependency() throws IOException {
+        Files.writeString(copiedTestModel.resolve("commands/Command2.java"), "\n// Changed\n",
+                StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,50 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import org.junit.Test;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.ResolutionResult;
+import poussecafe.source.analysis.SourceModelBuilder;
+
+import static org.junit.Assert.assertTrue;
+
+public class BindingParsingTest {
+
+    @Test
+    public void bindingsReplaceFallbackLookups() throws IOException {
+        givenSingleUnitLookups();
+        whenParsingWithBindings();
+        assertTrue(bindingsLookups < singleUnitLookups);
+    }
+
+    private void givenSingleUnitLookups() throws IOException {
+        singleUnitLookups = fallbackLookups(ParsingMode.SINGLE_UNIT);
+    }
+
+    private int singleUnitLookups;
+
+    private int fallbackLookups(ParsingMode parsingMode) throws IOException {
+        var classResolver = new CountingClassResolver();
+        var builder = new SourceModelBuilder(classResolver);
+        builder.includeTree(DiscoveryTest.testModelDirectory, parsingMode);
+        builder.build();
+        return classResolver.lookups;
+    }
+
+    private static class CountingClassResolver extends ClassLoaderClassResolver {
+
+        @Override
+        protected ResolutionResult findClass(String name) {
+            ++lookups;
+            return super.findClass(name);
+        }
+
+        private int lookups;
+    }
+
+    private void whenParsingWithBindings() throws IOException {
+        bindingsLookups = fallbackLookups(ParsingMode.BINDINGS);
+    }
+
+    private int bindingsLookups;
+}
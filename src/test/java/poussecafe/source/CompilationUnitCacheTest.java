@@ -0,0 +1,103 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.junit.Test;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.SourceModelBuilder;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CompilationUnitCacheTest {
+
+    @Test
+    public void leastRecentlyUsedUnitIsReleased() {
+        givenCache(1);
+        whenParsingSources(firstSource(), secondSource());
+        thenRetainedUnits(1);
+    }
+
+    private void givenCache(int maxRetainedUnits) {
+        cache = new CompilationUnitCache(maxRetainedUnits);
+    }
+
+    private CompilationUnitCache cache;
+
+    private Path firstSource() {
+        return DiscoveryTest.testModelDirectory.resolve("model/aggregate2/Aggregate2Root.java");
+    }
+
+    private Path secondSource() {
+        return DiscoveryTest.testModelDirectory.resolve("model/aggregate2/Identifier2.java");
+    }
+
+    private void whenParsingSources(Path... paths) {
+        for(Path path : paths) {
+            var source = new PathSource(path);
+            source.compilationUnitCache(cache);
+            source.compilationUnit();
+        }
+    }
+
+    private void thenRetainedUnits(int expected) {
+        assertThat(cache.size(), equalTo(expected));
+    }
+
+    @Test
+    public void detachedSourceIsParsedAgain() {
+        givenCache(1);
+        givenParsedSource();
+        whenDetaching();
+        thenSourceParsedAgain();
+    }
+
+    private void givenParsedSource() {
+        source = new PathSource(firstSource());
+        source.compilationUnitCache(cache);
+        unit = source.compilationUnit();
+    }
+
+    private PathSource source;
+
+    private CompilationUnit unit;
+
+    private void whenDetaching() {
+        source.detach();
+    }
+
+    private void thenSourceParsedAgain() {
+        assertThat(cache.size(), equalTo(0));
+        assertThat(source.compilationUnit(), not(sameInstance(unit)));
+    }
+
+    @Test
+    public void settingSameCacheKeepsUnitRetained() {
+        givenCache(1);
+        givenParsedSource();
+        source.compilationUnitCache(cache);
+        assertThat(cache.size(), equalTo(1));
+        assertThat(source.compilationUnit(), sameInstance(unit));
+    }
+
+    @Test
+    public void detachModeReleasesAllUnits() throws IOException {
+        givenCache(CompilationUnitCache.DEFAULT_MAX_RETAINED_UNITS);
+        whenScanningInDetachMode();
+        thenRetainedUnits(0);
+    }
+
+    private void whenScanningInDetachMode() throws IOException {
+        var builder = new SourceModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .configuration(new ScannerConfiguration.Builder()
+                        .compilationUnitCache(cache)
+                        .detachCompilationUnits(true)
+                        .build())
+                .build();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+    }
+}
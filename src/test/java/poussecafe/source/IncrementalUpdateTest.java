@@ -0,0 +1,116 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.SourceModelBuilder;
+import poussecafe.source.model.SourceModel;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class IncrementalUpdateTest {
+
+    @Test
+    public void dependentsOfChangedFileAreUpdated() throws IOException {
+        givenScannedModel();
+        whenUpdating(command2());
+        thenUpdated(command2(), aggregate2Repository());
+        thenNotUpdated(aggregate2Root());
+        thenModelUnchanged();
+    }
+
+    private void givenScannedModel() throws IOException {
+        builder = new SourceModelBuilder(new ClassLoaderClassResolver());
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        initialModel = builder.build();
+    }
+
+    private SourceModelBuilder builder;
+
+    private SourceModel initialModel;
+
+    private Path command2() {
+        return DiscoveryTest.testModelDirectory.resolve("commands/Command2.java");
+    }
+
+    private Path aggregate2Repository() {
+        return DiscoveryTest.testModelDirectory.resolve("model/aggregate2/Aggregate2Repository.java");
+    }
+
+    private Path aggregate2Root() {
+        return DiscoveryTest.testModelDirectory.resolve("model/aggregate2/Aggregate2Root.java");
+    }
+
+    private void whenUpdating(Path changedFile) {
+        updatedSourceIds = builder.update(List.of(changedFile));
+    }
+
+    private Set<String> updatedSourceIds;
+
+    private void thenUpdated(Path... expectedFiles) {
+        for(Path expectedFile : expectedFiles) {
+            assertThat(updatedSourceIds, hasItems(expectedFile.toString()));
+        }
+    }
+
+    private void thenNotUpdated(Path file) {
+        assertThat(updatedSourceIds, not(hasItems(file.toString())));
+    }
+
+    private void thenModelUnchanged() {
+        new ModelAssertions(builder.build()).thenEquivalentTo(initialModel);
+    }
+
+    @Test
+    public void editedDependentOfDeletedFileIsReparsed() throws IOException {
+        givenScannedModelCopy();
+        whenDeletingCommand2AndEditingItsListener();
+        thenListenerConsumes("process1Listener3", "Command1");
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private void givenScannedModelCopy() throws IOException {
+        modelCopy = folder.newFolder("testmodel").toPath();
+        try(var files = Files.walk(DiscoveryTest.testModelDirectory)) {
+            for(Path file : (Iterable<Path>) files::iterator) {
+                var target = modelCopy.resolve(DiscoveryTest.testModelDirectory.relativize(file).toString());
+                if(Files.isDirectory(file)) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.copy(file, target);
+                }
+            }
+        }
+        builder = new SourceModelBuilder(new ClassLoaderClassResolver());
+        builder.includeTree(modelCopy);
+    }
+
+    private Path modelCopy;
+
+    private void whenDeletingCommand2AndEditingItsListener() throws IOException {
+        var command2 = modelCopy.resolve("commands/Command2.java");
+        Files.delete(command2);
+        var repository = modelCopy.resolve("model/aggregate2/Aggregate2Repository.java");
+        Files.writeString(repository, Files.readString(repository).replace("Command2", "Command1"));
+        updatedSourceIds = builder.update(List.of(command2, repository));
+    }
+
+    private void thenListenerConsumes(String methodName, String messageName) {
+        var listener = builder.build().messageListeners().stream()
+                .filter(candidate -> candidate.methodName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        assertThat(listener.consumedMessage().name(), is(messageName));
+    }
+}
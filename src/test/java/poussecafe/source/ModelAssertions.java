@@ -1,5 +1,6 @@
 package poussecafe.source;
 
+import java.util.HashSet;
 import java.util.Optional;
 import poussecafe.source.model.Aggregate;
 import poussecafe.source.model.Command;
@@ -138,6 +139,33 @@ public class ModelAssertions {
         assertTrue(model.commands().stream().map(Command::simpleName).anyMatch(name::equals));
     }
 
+    public void thenEquivalentTo(SourceModel expected) {
+        assertThat(new HashSet<>(model.messageListeners()), equalTo(new HashSet<>(expected.messageListeners())));
+        assertThat(new HashSet<>(model.processes()), equalTo(new HashSet<>(expected.processes())));
+        assertThat(new HashSet<>(model.commands()), equalTo(new HashSet<>(expected.commands())));
+        assertThat(new HashSet<>(model.events()), equalTo(new HashSet<>(expected.events())));
+        assertThat(new HashSet<>(model.modules()), equalTo(new HashSet<>(expected.modules())));
+        assertThat(new HashSet<>(model.entities()), equalTo(new HashSet<>(expected.entities())));
+        assertThat(new HashSet<>(model.valueObjects()), equalTo(new HashSet<>(expected.valueObjects())));
+        assertThat(new HashSet<>(model.services()), equalTo(new HashSet<>(expected.services())));
+
+        assertThat(model.aggregates().size(), equalTo(expected.aggregates().size()));
+        for(Aggregate expectedAggregate : expected.aggregates()) {
+            var aggregate = model.aggregate(expectedAggregate.name()).orElseThrow();
+            assertThat(aggregate.className(), equalTo(expectedAggregate.className()));
+            assertThat(aggregate.innerFactory(), equalTo(expectedAggregate.innerFactory()));
+            assertThat(aggregate.innerRoot(), equalTo(expectedAggregate.innerRoot()));
+            assertThat(aggregate.innerRepository(), equalTo(expectedAggregate.innerRepository()));
+            assertThat(aggregate.containerSource(), equalTo(expectedAggregate.containerSource()));
+            assertThat(aggregate.standaloneFactorySource(), equalTo(expectedAggregate.standaloneFactorySource()));
+            assertThat(aggregate.standaloneRootSource(), equalTo(expectedAggregate.standaloneRootSource()));
+            assertThat(aggregate.standaloneRepositorySource(), equalTo(expectedAggregate.standaloneRepositorySource()));
+            assertThat(aggregate.documentation(), equalTo(expectedAggregate.documentation()));
+            assertThat(aggregate.rootIdentifierClassName(), equalTo(expectedAggregate.rootIdentifierClassName()));
+            assertThat(new HashSet<>(aggregate.rootReferences()), equalTo(new HashSet<>(expectedAggregate.rootReferences())));
+        }
+    }
+
     public ModelAssertions(SourceModel model) {
         requireNonNull(model);
         this.model = model;
@@ -0,0 +1,54 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import org.junit.Test;
+import poussecafe.source.analysis.SourceModelBuilder;
+import poussecafe.source.model.SourceModel;
+import poussecafe.source.validation.ValidationModelBuilder;
+import poussecafe.source.validation.model.ValidationModel;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MultiVisitorScannerTest {
+
+    @Test
+    public void singlePassBuildsSameModels() throws IOException {
+        givenSeparatelyBuiltModels();
+        whenScanningOnce();
+        thenModelsEquivalent();
+    }
+
+    private void givenSeparatelyBuiltModels() throws IOException {
+        var sourceModelBuilder = new SourceModelBuilder();
+        sourceModelBuilder.includeTree(DiscoveryTest.testModelDirectory);
+        expectedSourceModel = sourceModelBuilder.build();
+
+        var validationModelBuilder = new ValidationModelBuilder();
+        validationModelBuilder.includeTree(DiscoveryTest.testModelDirectory);
+        expectedValidationModel = validationModelBuilder.build();
+    }
+
+    private SourceModel expectedSourceModel;
+
+    private ValidationModel expectedValidationModel;
+
+    private void whenScanningOnce() throws IOException {
+        var scanner = new MultiVisitorScanner.Builder()
+                .withSourceModel()
+                .withValidationModel()
+                .build();
+        scanner.includeTree(DiscoveryTest.testModelDirectory);
+        sourceModel = scanner.buildSourceModel();
+        validationModel = scanner.buildValidationModel();
+    }
+
+    private SourceModel sourceModel;
+
+    private ValidationModel validationModel;
+
+    private void thenModelsEquivalent() {
+        new ModelAssertions(sourceModel).thenEquivalentTo(expectedSourceModel);
+        assertThat(validationModel, equalTo(expectedValidationModel));
+    }
+}
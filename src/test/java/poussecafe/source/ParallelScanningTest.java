@@ -0,0 +1,63 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Test;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.SourceModelBuilder;
+import poussecafe.source.metrics.PipelineMetrics;
+import poussecafe.source.metrics.PipelineMetricsListener;
+import poussecafe.source.metrics.PipelinePhase;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ParallelScanningTest {
+
+    @Test
+    public void parallelScanningVisitsUnitsInFileOrder() throws IOException {
+        givenSequentialVisitOrder();
+        whenScanningInParallel();
+        thenVisitOrdersEqual();
+    }
+
+    private void givenSequentialVisitOrder() throws IOException {
+        sequentialVisitOrder = visitOrder(new ScannerConfiguration.Builder());
+    }
+
+    private List<String> sequentialVisitOrder;
+
+    private List<String> visitOrder(ScannerConfiguration.Builder configurationBuilder) throws IOException {
+        var visitedSourceIds = new CopyOnWriteArrayList<String>();
+        var metrics = new PipelineMetrics();
+        metrics.addListener(new PipelineMetricsListener() {
+            @Override
+            public void phaseCompleted(PipelinePhase phase, String subject, long durationNanos) {
+                if(phase == PipelinePhase.VISIT) {
+                    visitedSourceIds.add(subject);
+                }
+            }
+        });
+        var builder = new SourceModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .configuration(configurationBuilder
+                        .metrics(metrics)
+                        .build())
+                .build();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        return visitedSourceIds;
+    }
+
+    private void whenScanningInParallel() throws IOException {
+        parallelVisitOrder = visitOrder(new ScannerConfiguration.Builder()
+                .parallelScanning(true)
+                .workers(4));
+    }
+
+    private List<String> parallelVisitOrder;
+
+    private void thenVisitOrdersEqual() {
+        assertThat(parallelVisitOrder, equalTo(sequentialVisitOrder));
+    }
+}
@@ -0,0 +1,51 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ParseProfileTest {
+
+    @Test
+    public void signaturesOnlySkipsMethodBodies() throws IOException {
+        givenSourceWithMethodBody();
+        whenParsingWith(ParseProfile.SIGNATURES_ONLY);
+        thenMethodBodyStatements(0);
+    }
+
+    private void givenSourceWithMethodBody() throws IOException {
+        var file = temporaryFolder.newFile("A.java").toPath();
+        Files.writeString(file, "class A { void method() { int i = 0; i++; } }");
+        source = new PathSource(file);
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private PathSource source;
+
+    private void whenParsingWith(ParseProfile parseProfile) {
+        source.parseProfile(parseProfile);
+        var type = (TypeDeclaration) source.compilationUnit().types().get(0);
+        methodBodyStatements = type.getMethods()[0].getBody().statements().size();
+    }
+
+    private int methodBodyStatements;
+
+    private void thenMethodBodyStatements(int expected) {
+        assertThat(methodBodyStatements, equalTo(expected));
+    }
+
+    @Test
+    public void fullProfileKeepsMethodBodies() throws IOException {
+        givenSourceWithMethodBody();
+        whenParsingWith(ParseProfile.FULL);
+        thenMethodBodyStatements(2);
+    }
+}
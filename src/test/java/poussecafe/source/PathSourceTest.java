@@ -0,0 +1,73 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PathSourceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void sourceIsDecodedWithGivenCharset() throws IOException {
+        givenSourceFile("public class Café { }", StandardCharsets.ISO_8859_1);
+        whenParsing(StandardCharsets.ISO_8859_1);
+        thenTypeName("Café");
+    }
+
+    private void givenSourceFile(String content, Charset charset) throws IOException {
+        sourceFile = folder.newFile("Source.java").toPath();
+        Files.writeString(sourceFile, content, charset);
+    }
+
+    private Path sourceFile;
+
+    private void whenParsing(Charset charset) {
+        compilationUnit = new PathSource(sourceFile, charset).compilationUnit();
+    }
+
+    private CompilationUnit compilationUnit;
+
+    private void thenTypeName(String expectedName) {
+        assertThat(compilationUnit.getMessages().length, equalTo(0));
+        var type = (TypeDeclaration) compilationUnit.types().get(0);
+        assertThat(type.getName().getIdentifier(), equalTo(expectedName));
+    }
+
+    @Test
+    public void utf8IsDefaultCharset() throws IOException {
+        givenSourceFile("public class Café { }", StandardCharsets.UTF_8);
+        whenParsingWithDefaultCharset();
+        thenTypeName("Café");
+    }
+
+    private void whenParsingWithDefaultCharset() {
+        compilationUnit = new PathSource(sourceFile).compilationUnit();
+    }
+
+    @Test
+    public void largeSourceIsParsed() throws IOException {
+        givenSourceFile(largeSource(), StandardCharsets.UTF_8);
+        whenParsing(StandardCharsets.UTF_8);
+        thenTypeName("Large");
+    }
+
+    private String largeSource() {
+        var content = new StringBuilder("public class Large {\n");
+        while(content.length() < 2 * 1024 * 1024) {
+            content.append("    // Pousse-Café\n");
+        }
+        return content.append("}\n").toString();
+    }
+}
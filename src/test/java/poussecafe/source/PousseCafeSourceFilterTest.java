@@ -0,0 +1,107 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PousseCafeSourceFilterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void plainClassIsRejected() throws IOException {
+        givenSource("package acme;\n"
+                + "import java.util.List;\n"
+                + "public class Dto { private List<String> values; }\n");
+        whenFiltering();
+        thenAccepted(false);
+    }
+
+    private void givenSource(String content) throws IOException {
+        sourceFile = folder.newFile("Source.java").toPath();
+        Files.writeString(sourceFile, content);
+    }
+
+    private Path sourceFile;
+
+    private void whenFiltering() throws IOException {
+        accepted = new PousseCafeSourceFilter().accepts(sourceFile);
+    }
+
+    private boolean accepted;
+
+    private void thenAccepted(boolean expected) {
+        if(expected) {
+            assertTrue(accepted);
+        } else {
+            assertFalse(accepted);
+        }
+    }
+
+    @Test
+    public void pousseCafeImportIsAccepted() throws IOException {
+        givenSource("package acme;\n"
+                + "import poussecafe.discovery.Aggregate;\n"
+                + "@Aggregate(factory = F.class, repository = R.class)\n"
+                + "public class MyAggregate { }\n");
+        whenFiltering();
+        thenAccepted(true);
+    }
+
+    @Test
+    public void jdkSuperTypesAreRejected() throws IOException {
+        givenSource("package acme;\n"
+                + "import java.util.ArrayList;\n"
+                + "import java.util.Map;\n"
+                + "public class Values extends ArrayList<Map.Entry<String, String>>\n"
+                + "        implements java.io.Serializable, Map.Entry<String, String> { }\n");
+        whenFiltering();
+        thenAccepted(false);
+    }
+
+    @Test
+    public void samePackageSuperTypeIsAccepted() throws IOException {
+        givenSource("package acme;\n"
+                + "public class MyRoot extends BaseRoot { }\n");
+        whenFiltering();
+        thenAccepted(true);
+    }
+
+    @Test
+    public void wildcardImportedSuperTypeIsAccepted() throws IOException {
+        givenSource("package acme;\n"
+                + "import acme.base.*;\n"
+                + "public class MyEvent implements BaseEvent { }\n");
+        whenFiltering();
+        thenAccepted(true);
+    }
+
+    @Test
+    public void enumIsAccepted() throws IOException {
+        givenSource("package acme;\n"
+                + "public enum Color { RED, GREEN }\n");
+        whenFiltering();
+        thenAccepted(true);
+    }
+
+    @Test
+    public void typeBodyIsIgnored() throws IOException {
+        givenSource("package acme;\n"
+                + "import java.util.List;\n"
+                + "public class Dto {\n"
+                + "    private String text = \"} class Fake extends BaseRoot {\";\n"
+                + "    private char brace = '{';\n"
+                + "    /* poussecafe } */\n"
+                + "    private static class Helper extends BaseHelper { }\n"
+                + "}\n");
+        whenFiltering();
+        thenAccepted(false);
+    }
+}
@@ -0,0 +1,112 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.SourceModelBuilder;
+import poussecafe.source.model.SourceModel;
+import poussecafe.source.validation.ValidationModelBuilder;
+import poussecafe.source.validation.model.ValidationModel;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class ScannerConfigurationEquivalenceTest {
+
+    @Parameters(name = "{0}")
+    public static List<Object[]> configurations() {
+        return List.of(
+                configuration("parallel", () -> new ScannerConfiguration.Builder()
+                        .parallelScanning(true)
+                        .workers(4)
+                        .build()),
+                configuration("batch", () -> new ScannerConfiguration.Builder()
+                        .parsingMode(ParsingMode.BATCH)
+                        .build()),
+                configuration("bindings", () -> new ScannerConfiguration.Builder()
+                        .parsingMode(ParsingMode.BINDINGS)
+                        .build()),
+                configuration("source class resolution", () -> new ScannerConfiguration.Builder()
+                        .sourceClassResolution(true)
+                        .build()),
+                configuration("full parse profile", () -> new ScannerConfiguration.Builder()
+                        .parseProfile(ParseProfile.FULL)
+                        .build()),
+                configuration("detached units", () -> new ScannerConfiguration.Builder()
+                        .compilationUnitCache(new CompilationUnitCache(CompilationUnitCache.DEFAULT_MAX_RETAINED_UNITS))
+                        .detachCompilationUnits(true)
+                        .build()));
+    }
+
+    private static Object[] configuration(String name, Supplier<ScannerConfiguration> configuration) {
+        return new Object[] { name, configuration };
+    }
+
+    @Parameter(0)
+    public String name;
+
+    @Parameter(1)
+    public Supplier<ScannerConfiguration> configuration;
+
+    @Test
+    public void configurationBuildsSameSourceModel() throws IOException {
+        givenReferenceSourceModel();
+        whenBuildingSourceModelWithConfiguration();
+        new ModelAssertions(sourceModel).thenEquivalentTo(referenceSourceModel);
+    }
+
+    private void givenReferenceSourceModel() throws IOException {
+        var builder = new SourceModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .build();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        referenceSourceModel = builder.build();
+    }
+
+    private SourceModel referenceSourceModel;
+
+    private void whenBuildingSourceModelWithConfiguration() throws IOException {
+        var builder = new SourceModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .configuration(configuration.get())
+                .build();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        sourceModel = builder.build();
+    }
+
+    private SourceModel sourceModel;
+
+    @Test
+    public void configurationBuildsSameValidationModel() throws IOException {
+        givenReferenceValidationModel();
+        whenBuildingValidationModelWithConfiguration();
+        assertEquals(referenceValidationModel, validationModel);
+    }
+
+    private void givenReferenceValidationModel() throws IOException {
+        var builder = new ValidationModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .build();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        referenceValidationModel = builder.build();
+    }
+
+    private ValidationModel referenceValidationModel;
+
+    private void whenBuildingValidationModelWithConfiguration() throws IOException {
+        var builder = new ValidationModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .configuration(configuration.get())
+                .build();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        validationModel = builder.build();
+    }
+
+    private ValidationModel validationModel;
+}
@@ -0,0 +1,55 @@
+package poussecafe.source;
+
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SourceDependencyIndexTest {
+
+    @Test
+    public void dependentsAreTransitive() {
+        givenIndex();
+        whenGettingDependents("C.java");
+        thenDependents(Set.of("B.java", "A.java"));
+    }
+
+    private void givenIndex() {
+        index = new SourceDependencyIndex();
+        register("A.java", "a.A", Set.of("a.B"));
+        register("B.java", "a.B", Set.of("a.C"));
+        register("C.java", "a.C", Set.of());
+        register("D.java", "a.D", Set.of("a.E"));
+    }
+
+    private SourceDependencyIndex index;
+
+    private void register(String sourceId, String declaredClassName, Set<String> referencedClassNames) {
+        index.register(new PathSource(Path.of(sourceId)),
+                new SourceDependencies(Set.of(declaredClassName), referencedClassNames));
+    }
+
+    private void whenGettingDependents(String sourceId) {
+        dependents = index.dependents(sourceId);
+    }
+
+    private Set<String> dependents;
+
+    private void thenDependents(Set<String> expected) {
+        assertThat(dependents, equalTo(expected));
+    }
+
+    @Test
+    public void forgottenSourceIsNoLongerDependent() {
+        givenIndex();
+        whenForgetting("B.java");
+        whenGettingDependents("C.java");
+        thenDependents(Set.of());
+    }
+
+    private void whenForgetting(String sourceId) {
+        index.forget(sourceId);
+    }
+}
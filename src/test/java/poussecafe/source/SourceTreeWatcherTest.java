@@ -0,0 +1,189 @@
+package poussecafe.source;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.SourceModelBuilder;
+import poussecafe.source.model.SourceModel;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SourceTreeWatcherTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void deletedSourceIsForgotten() throws Exception {
+        givenWatchedTree();
+        whenDeletingRunner();
+        thenRunnerRemovedFromModel();
+    }
+
+    private void givenWatchedTree() throws Exception {
+        givenWatchedTree(ScannerConfiguration.defaultConfiguration());
+    }
+
+    private void givenWatchedTree(ScannerConfiguration configuration) throws Exception {
+        sourceDirectory = folder.newFolder("sources").toPath();
+        copyTree(DiscoveryTest.testModelDirectory, sourceDirectory);
+
+        var builder = new SourceModelBuilder(new ClassLoaderClassResolver(), configuration);
+        watcher = new SourceTreeWatcher.Builder<SourceModel>()
+                .scanner(builder)
+                .sourceDirectory(sourceDirectory)
+                .modelSupplier(builder::build)
+                .modelListener(models::add)
+                .debounce(Duration.ofMillis(50))
+                .build();
+        watcher.start();
+
+        var initialModel = models.take();
+        assertThat(initialModel.runner(RUNNER_CLASS_NAME).isPresent(), equalTo(true));
+    }
+
+    private Path sourceDirectory;
+
+    private SourceTreeWatcher<SourceModel> watcher;
+
+    private BlockingQueue<SourceModel> models = new LinkedBlockingQueue<>();
+
+    private static final String RUNNER_CLASS_NAME = "poussecafe.source.testmodel.model.aggregate2.Process1Listener2Runner";
+
+    private void copyTree(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.copy(file, target.resolve(source.relativize(file).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void whenDeletingRunner() throws IOException {
+        Files.delete(sourceDirectory.resolve("model/aggregate2/Process1Listener2Runner.java"));
+    }
+
+    private void thenRunnerRemovedFromModel() throws InterruptedException {
+        var updatedModel = models.poll(30, TimeUnit.SECONDS);
+        assertThat(updatedModel, notNullValue());
+        assertThat(updatedModel.runner(RUNNER_CLASS_NAME).isPresent(), equalTo(false));
+        assertThat(watcher.publishedModels(), equalTo(1L));
+    }
+
+    @Test
+    public void sourcesOfMovedDirectoryAreForgotten() throws Exception {
+        givenWatchedTree();
+        whenMovingAggregate2OutOfTree();
+        thenRunnerEventuallyRemovedFromModel();
+    }
+
+    private void whenMovingAggregate2OutOfTree() throws IOException {
+        Files.move(sourceDirectory.resolve("model/aggregate2"), folder.getRoot().toPath().resolve("aggregate2"));
+    }
+
+    private void thenRunnerEventuallyRemovedFromModel() throws InterruptedException {
+        var updatedModel = models.poll(30, TimeUnit.SECONDS);
+        while(updatedModel != null
+                && updatedModel.runner(RUNNER_CLASS_NAME).isPresent()) {
+            updatedModel = models.poll(30, TimeUnit.SECONDS);
+        }
+        assertThat(updatedModel, notNullValue());
+    }
+
+    @Test
+    public void createdDependentSourcesAreResolved() throws Exception {
+        givenWatchedTree(new ScannerConfiguration.Builder()
+                .sourceClassResolution(true)
+                .build());
+        whenCreatingRunnerAndItsSuperclass();
+        thenCreatedRunnerEventuallyAddedToModel();
+    }
+
+    private void whenCreatingRunnerAndItsSuperclass() throws IOException {
+        var aggregate2Directory = sourceDirectory.resolve("model/aggregate2");
+        Files.writeString(aggregate2Directory.resolve("CreatedRunnerBase.java"),
+                "package poussecafe.source.testmodel.model.aggregate2;\n"
+                + "import poussecafe.listeners.UpdateOneRunner;\n"
+                + "import poussecafe.source.testmodel.model.events.Event2;\n"
+                + "public abstract class CreatedRunnerBase extends UpdateOneRunner<Event2, String, Aggregate2Root> {\n"
+                + "}\n");
+        Files.writeString(aggregate2Directory.resolve("CreatedRunner.java"),
+                "package poussecafe.source.testmodel.model.aggregate2;\n"
+                + "import poussecafe.source.testmodel.model.events.Event2;\n"
+                + "public class CreatedRunner extends CreatedRunnerBase {\n"
+                + "    @Override\n"
+                + "    protected String aggregateId(Event2 message) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "}\n");
+    }
+
+    private void thenCreatedRunnerEventuallyAddedToModel() throws InterruptedException {
+        var updatedModel = models.poll(30, TimeUnit.SECONDS);
+        while(updatedModel != null
+                && updatedModel.runner(CREATED_RUNNER_CLASS_NAME).isEmpty()) {
+            updatedModel = models.poll(30, TimeUnit.SECONDS);
+        }
+        assertThat(updatedModel, notNullValue());
+        assertThat(updatedModel.runner(RUNNER_CLASS_NAME).isPresent(), equalTo(true));
+    }
+
+    private static final String CREATED_RUNNER_CLASS_NAME = "poussecafe.source.testmodel.model.aggregate2.CreatedRunner";
+
+    @Test
+    public void multiVisitorScannerIsWatched() throws Exception {
+        givenWatchedMultiVisitorScanner();
+        whenDeletingRunner();
+        thenRunnerRemovedFromModel();
+    }
+
+    private void givenWatchedMultiVisitorScanner() throws Exception {
+        sourceDirectory = folder.newFolder("sources").toPath();
+        copyTree(DiscoveryTest.testModelDirectory, sourceDirectory);
+
+        var scanner = new MultiVisitorScanner.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .withSourceModel()
+                .withValidationModel()
+                .build();
+        watcher = new SourceTreeWatcher.Builder<SourceModel>()
+                .scanner(scanner)
+                .sourceDirectory(sourceDirectory)
+                .modelSupplier(scanner::buildSourceModel)
+                .modelListener(models::add)
+                .debounce(Duration.ofMillis(50))
+                .build();
+        watcher.start();
+
+        var initialModel = models.take();
+        assertThat(initialModel.runner(RUNNER_CLASS_NAME).isPresent(), equalTo(true));
+    }
+
+    @After
+    public void closeWatcher() throws IOException {
+        if(watcher != null) {
+            watcher.close();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package poussecafe.source.analysis;
+
+import java.nio.file.Path;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.junit.Test;
+import poussecafe.source.PathSource;
+import poussecafe.source.Source;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BindingClassResolverTest {
+
+    @Test
+    public void registeredClassesKeepTheirSource() {
+        givenRegisteredUnit("package a; public class Container { public static class Inner {} }");
+        whenLoadingInnerClass();
+        thenSourceIsRegisteredSource();
+    }
+
+    private void givenRegisteredUnit(String unitSource) {
+        var parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setCompilerOptions(PathSource.compilerOptions());
+        parser.setEnvironment(new String[0], new String[0], null, true);
+        parser.setUnitName("/a/Container.java");
+        parser.setResolveBindings(true);
+        parser.setSource(unitSource.toCharArray());
+        unit = (CompilationUnit) parser.createAST(null);
+        resolver.register(source, unit);
+    }
+
+    private CompilationUnit unit;
+
+    private BindingClassResolver resolver = new BindingClassResolver.Builder().build();
+
+    private Source source = new PathSource(Path.of("/project/src/a/Container.java"));
+
+    private void whenLoadingInnerClass() {
+        var container = (TypeDeclaration) unit.types().get(0);
+        var inner = container.getTypes()[0];
+        innerClass = resolver.loadClass(inner.resolveBinding()).orElseThrow();
+    }
+
+    private ResolvedClass innerClass;
+
+    private void thenSourceIsRegisteredSource() {
+        assertThat(innerClass.source(), equalTo(source));
+    }
+}
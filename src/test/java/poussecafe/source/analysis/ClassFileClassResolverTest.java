@@ -0,0 +1,9 @@
+package poussecafe.source.analysis;
+
+public class ClassFileClassResolverTest extends ClassResolverTest {
+
+    @Override
+    protected ClassResolver newClassResolver() {
+        return new ClassFileClassResolver.Builder().build();
+    }
+}
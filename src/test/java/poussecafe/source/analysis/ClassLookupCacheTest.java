@@ -0,0 +1,77 @@
+package poussecafe.source.analysis;
+
+import java.util.Optional;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassLookupCacheTest {
+
+    @Test
+    public void repeatedLookupsAreMemoized() {
+        givenResolver(new ClassLookupCache());
+        whenLoading("poussecafe.domain.AggregateRoot");
+        whenLoading("poussecafe.domain.AggregateRoot");
+        thenCacheHas(1, 1);
+    }
+
+    private void givenResolver(ClassLookupCache cache) {
+        classResolver = new CountingClassResolver();
+        classResolver.lookupCache(cache);
+    }
+
+    private CountingClassResolver classResolver;
+
+    private static class CountingClassResolver extends ClassLoaderClassResolver {
+
+        @Override
+        protected ResolvedClass loadClass(String name) throws ClassNotFoundException {
+            ++loads;
+            return super.loadClass(name);
+        }
+
+        private int loads;
+    }
+
+    private void whenLoading(String className) {
+        resolved = classResolver.loadClass(new ClassName(className));
+    }
+
+    private Optional<ResolvedClass> resolved;
+
+    private void thenCacheHas(long hits, long misses) {
+        assertThat(classResolver.lookupCache().hits(), is(hits));
+        assertThat(classResolver.lookupCache().misses(), is(misses));
+        assertThat(classResolver.loads, equalTo((int) misses));
+    }
+
+    @Test
+    public void failedLookupsAreMemoized() {
+        givenResolver(new ClassLookupCache());
+        whenLoading("poussecafe.domain.DoesNotExist");
+        whenLoading("poussecafe.domain.DoesNotExist");
+        thenCacheHas(1, 1);
+        assertThat(resolved.isPresent(), is(false));
+    }
+
+    @Test
+    public void invalidationForcesReload() {
+        givenResolver(new ClassLookupCache());
+        whenLoading("poussecafe.domain.AggregateRoot");
+        classResolver.invalidate();
+        whenLoading("poussecafe.domain.AggregateRoot");
+        thenCacheHas(0, 2);
+    }
+
+    @Test
+    public void boundedCacheEvictsLeastRecentlyUsed() {
+        givenResolver(new ClassLookupCache(1));
+        whenLoading("poussecafe.domain.AggregateRoot");
+        whenLoading("poussecafe.domain.DomainEvent");
+        whenLoading("poussecafe.domain.AggregateRoot");
+        thenCacheHas(0, 3);
+        assertThat(classResolver.lookupCache().size(), is(1));
+    }
+}
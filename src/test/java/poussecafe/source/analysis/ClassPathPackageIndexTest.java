@@ -0,0 +1,147 @@
+package poussecafe.source.analysis;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import poussecafe.domain.AggregateRoot;
+import poussecafe.source.DiscoveryTest;
+import poussecafe.source.ModelAssertions;
+import poussecafe.source.ScannerConfiguration;
+import poussecafe.source.model.SourceModel;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ClassPathPackageIndexTest {
+
+    @Test
+    public void indexContainsClassPathAndSourceClasses() throws URISyntaxException {
+        givenIndex();
+        thenIndexContains("poussecafe.domain", "AggregateRoot");
+        thenIndexContains("java.lang", "String");
+        thenIndexContains("poussecafe.source.testmodel.commands", "Command1");
+        assertThat(index.contains("poussecafe.domain", "DoesNotExist"), is(false));
+    }
+
+    private void givenIndex() throws URISyntaxException {
+        index = new ClassPathPackageIndex.Builder()
+                .javaRuntime(true)
+                .classPathEntry(classPathEntryOf(AggregateRoot.class))
+                .sourceRoot(Path.of("", "src", "test", "java"))
+                .build();
+    }
+
+    private Path classPathEntryOf(Class<?> someClass) throws URISyntaxException {
+        return Path.of(someClass.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    private ClassPathPackageIndex index;
+
+    private void thenIndexContains(String packageName, String simpleName) {
+        assertThat(index.contains(packageName, simpleName), is(true));
+    }
+
+    @Test
+    public void indexCanBePersisted() throws URISyntaxException, IOException {
+        givenIndex();
+        whenWritingAndReadingIndex();
+        thenIndexContains("poussecafe.domain", "AggregateRoot");
+        thenIndexContains("java.lang", "String");
+    }
+
+    private void whenWritingAndReadingIndex() throws IOException {
+        var indexFile = temporaryFolder.getRoot().toPath().resolve("package.index");
+        index.writeTo(indexFile);
+        index = ClassPathPackageIndex.readFrom(indexFile);
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void persistedIndexIgnoresChangedEntries() throws IOException {
+        givenIndexedClassDirectory();
+        givenPersistedIndex();
+        whenAddingClassToEntry();
+        thenPersistedIndexIsStale();
+    }
+
+    private void givenIndexedClassDirectory() throws IOException {
+        classDirectory = temporaryFolder.newFolder("classes").toPath();
+        Files.createDirectories(classDirectory.resolve("a"));
+        Files.createFile(classDirectory.resolve("a").resolve("A.class"));
+        index = new ClassPathPackageIndex.Builder()
+                .classPathEntry(classDirectory)
+                .build();
+    }
+
+    private Path classDirectory;
+
+    private void givenPersistedIndex() throws IOException {
+        indexFile = temporaryFolder.getRoot().toPath().resolve("package.index");
+        index.writeTo(indexFile);
+        assertTrue(ClassPathPackageIndex.readFrom(indexFile).indexes("a"));
+    }
+
+    private Path indexFile;
+
+    private void whenAddingClassToEntry() throws IOException {
+        Files.createDirectories(classDirectory.resolve("b"));
+        Files.createFile(classDirectory.resolve("b").resolve("B.class"));
+    }
+
+    private void thenPersistedIndexIsStale() throws IOException {
+        var persistedIndex = ClassPathPackageIndex.readFrom(indexFile);
+        assertFalse(persistedIndex.isFresh());
+        assertFalse(persistedIndex.indexes("a"));
+    }
+
+    @Test
+    public void indexedResolutionBuildsSameModel() throws IOException {
+        givenRuntimeClassPathIndex();
+        whenBuildingModelWithIndex();
+        thenModelEquivalentToModelWithoutIndex();
+    }
+
+    private void givenRuntimeClassPathIndex() {
+        classResolver = new ClassLoaderClassResolver();
+        index = new ClassPathPackageIndex.Builder()
+                .javaRuntime(true)
+                .classPath(classResolver.classPath().orElseThrow())
+                .build();
+    }
+
+    private ClassLoaderClassResolver classResolver;
+
+    private void whenBuildingModelWithIndex() throws IOException {
+        var builder = new SourceModelBuilder(classResolver, new ScannerConfiguration.Builder()
+                .packageIndex(index)
+                .build());
+        assertTrue(classResolver.isPackageIndexAuthoritative());
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        indexedModel = builder.build();
+    }
+
+    private SourceModel indexedModel;
+
+    private void thenModelEquivalentToModelWithoutIndex() throws IOException {
+        var builder = new SourceModelBuilder(new ClassLoaderClassResolver());
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        new ModelAssertions(indexedModel).thenEquivalentTo(builder.build());
+    }
+
+    @Test
+    public void partialIndexIsIgnored() throws URISyntaxException {
+        givenIndex();
+        classResolver = new ClassLoaderClassResolver();
+        classResolver.packageIndex(index);
+        assertFalse(classResolver.isPackageIndexAuthoritative());
+        assertTrue(classResolver.mayContain("poussecafe.domain", "DoesNotExist"));
+    }
+}
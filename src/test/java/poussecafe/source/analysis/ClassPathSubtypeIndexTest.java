@@ -0,0 +1,102 @@
+package poussecafe.source.analysis;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import poussecafe.domain.AggregateRoot;
+import poussecafe.source.models.p214.A1;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassPathSubtypeIndexTest {
+
+    @Test
+    public void indexContainsIndirectSubtypes() throws URISyntaxException {
+        givenIndex(new ClassPathSubtypeIndex.Builder()
+                .classPathEntry(classPathEntryOf(A1.class))
+                .classPathEntry(classPathEntryOf(AggregateRoot.class)));
+        thenSubtypeIndexed(CompilationUnitResolver.AGGREGATE_ROOT_CLASS, ROOT_CLASS_NAME);
+        thenSubtypeIndexed("poussecafe.domain.Entity", ROOT_CLASS_NAME);
+        assertThat(index.subtypesOf(CompilationUnitResolver.MODULE_INTERFACE).contains(ROOT_CLASS_NAME), is(false));
+    }
+
+    private static final String ROOT_CLASS_NAME = "poussecafe.source.models.p214.A1.Root";
+
+    private void givenIndex(ClassPathSubtypeIndex.Builder builder) {
+        index = builder.build();
+    }
+
+    private Path classPathEntryOf(Class<?> someClass) throws URISyntaxException {
+        return Path.of(someClass.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    private ClassPathSubtypeIndex index;
+
+    private void thenSubtypeIndexed(String supertypeName, String subtypeName) {
+        assertThat(index.subtypesOf(supertypeName).contains(subtypeName), is(true));
+    }
+
+    @Test
+    public void jarIndexIsCached() throws IOException {
+        givenJar();
+        givenIndex(cachedIndexBuilder());
+        givenIndex(cachedIndexBuilder());
+        thenSubtypeIndexed(CompilationUnitResolver.AGGREGATE_ROOT_CLASS, ROOT_CLASS_NAME);
+        thenCacheContainsSingleIndex();
+    }
+
+    private void givenJar() throws IOException {
+        jar = temporaryFolder.newFile("model.jar").toPath();
+        try(var output = new JarOutputStream(Files.newOutputStream(jar));
+                var classFile = A1.Root.class.getResourceAsStream("A1$Root.class")) {
+            output.putNextEntry(new JarEntry("poussecafe/source/models/p214/A1$Root.class"));
+            classFile.transferTo(output);
+            output.closeEntry();
+        }
+    }
+
+    private Path jar;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ClassPathSubtypeIndex.Builder cachedIndexBuilder() {
+        return new ClassPathSubtypeIndex.Builder()
+                .classPathEntry(jar)
+                .cacheDirectory(temporaryFolder.getRoot().toPath().resolve("cache"));
+    }
+
+    private void thenCacheContainsSingleIndex() throws IOException {
+        try(var files = Files.list(temporaryFolder.getRoot().toPath().resolve("cache"))) {
+            assertThat(files.count(), equalTo(1L));
+        }
+    }
+
+    @Test
+    public void jarIndexIsRebuiltWhenJarChanges() throws IOException {
+        givenJar();
+        givenIndex(cachedIndexBuilder());
+        givenJarReplacedByEmptyJar();
+        givenIndex(cachedIndexBuilder());
+        assertThat(index.subtypesOf(CompilationUnitResolver.AGGREGATE_ROOT_CLASS).contains(ROOT_CLASS_NAME), is(false));
+        thenCacheContainsSingleIndex();
+    }
+
+    private void givenJarReplacedByEmptyJar() throws IOException {
+        var lastModified = Files.getLastModifiedTime(jar);
+        try(var output = new JarOutputStream(Files.newOutputStream(jar))) {
+            output.putNextEntry(new JarEntry("META-INF/"));
+            output.closeEntry();
+        }
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(lastModified.toMillis() + 1000));
+    }
+}
@@ -1,8 +1,13 @@
 package poussecafe.source.analysis;
 
+import java.util.List;
 import java.util.Optional;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public class ClassResolverTest {
@@ -30,5 +35,79 @@ public class ClassResolverTest {
 
     private Optional<ResolvedClass> resolved;
 
-    private ClassResolver classResolver = new ClassLoaderClassResolver();
+    private ClassResolver classResolver = newClassResolver();
+
+    protected ClassResolver newClassResolver() {
+        return new ClassLoaderClassResolver();
+    }
+
+    @Test
+    public void unknownClassIsNotResolved() {
+        givenQualifiedName("poussecafe.domain.DoesNotExist");
+        whenResolving();
+        assertThat(resolved.isPresent(), is(false));
+    }
+
+    @Test
+    public void innerClassesAreResolved() {
+        givenQualifiedName("poussecafe.source.testmodel.model.aggregate1.Aggregate1");
+        whenResolvingInnerClass("Root");
+        thenResolved();
+        assertThat(resolved.get().name().qualified(),
+                equalTo("poussecafe.source.testmodel.model.aggregate1.Aggregate1.Root"));
+        assertThat(resolved.get().declaringClass().orElseThrow().name(), equalTo(qualifiedName));
+        assertThat(resolved.get().isInterface(), is(false));
+    }
+
+    private void whenResolvingInnerClass(String... innerClassPath) {
+        resolved = classResolver.loadInnerClass(qualifiedName, List.of(innerClassPath));
+    }
+
+    @Test
+    public void supertypesAreChecked() throws ClassNotFoundException {
+        givenQualifiedName("poussecafe.source.testmodel.model.aggregate1.Aggregate1");
+        whenResolvingInnerClass("Root");
+        assertThat(resolved.get().instanceOf(CompilationUnitResolver.AGGREGATE_ROOT_CLASS), is(true));
+        assertThat(resolved.get().instanceOf(CompilationUnitResolver.DOMAIN_EVENT_INTERFACE), is(false));
+    }
+
+    @Test
+    public void interfacesAreDetected() {
+        givenQualifiedName("poussecafe.source.testmodel.model.aggregate1.Aggregate1");
+        whenResolvingInnerClass("Root", "Attributes");
+        thenResolved();
+        assertThat(resolved.get().isInterface(), is(true));
+    }
+
+    @Test
+    public void constantsAreRead() {
+        givenQualifiedName("java.lang.Integer");
+        whenResolving();
+        assertThat(resolved.get().staticFieldValue("MAX_VALUE"), equalTo(Optional.of(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    public void resolvedClassesAreInterned() {
+        givenQualifiedName("poussecafe.source.testmodel.model.aggregate1.Aggregate1");
+        whenResolvingInnerClass("Root");
+        var root = resolved.get();
+        whenResolvingInnerClass("Root");
+        assertThat(resolved.get(), sameInstance(root));
+        assertThat(root.declaringClass().orElseThrow().innerClass("Root").orElseThrow(), sameInstance(root));
+    }
+
+    @Test
+    public void unknownClassIsReportedAsNotFound() {
+        var result = classResolver.findClass("poussecafe.domain.DoesNotExist");
+        assertThat(result.status(), is(ResolutionResult.Status.NOT_FOUND));
+        assertThat(result.toOptional().isPresent(), is(false));
+    }
+
+    @Test
+    public void unknownSupertypeIsNotASupertype() {
+        givenQualifiedName("poussecafe.source.testmodel.model.aggregate1.Aggregate1");
+        whenResolvingInnerClass("Root");
+        assertThat(resolved.get().subtypeOf("poussecafe.domain.DoesNotExist"), is(false));
+        assertThat(resolved.get().subtypeOf(CompilationUnitResolver.AGGREGATE_ROOT_CLASS), is(true));
+    }
 }
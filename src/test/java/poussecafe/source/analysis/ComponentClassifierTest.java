@@ -0,0 +1,71 @@
+package poussecafe.source.analysis;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.Test;
+import poussecafe.source.DiscoveryTest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ComponentClassifierTest {
+
+    @Test
+    public void aggregateContainerIsClassified() throws IOException {
+        givenTypeDeclaration(Path.of("model", "aggregate3", "Aggregate3.java"));
+        whenClassifying();
+        thenKindsAre(Set.of(ComponentKind.AGGREGATE_CONTAINER));
+        thenAnnotationFound(CompilationUnitResolver.AGGREGATE_ANNOTATION_CLASS);
+        thenAggregateNameIs("Aggregate3");
+        assertTrue(classification.isMessageListenerContainer());
+    }
+
+    private void givenTypeDeclaration(Path testModelFile) throws IOException {
+        typeDeclaration = DiscoveryTest.resolveTypeDeclaration(testModelFile);
+    }
+
+    private ResolvedTypeDeclaration typeDeclaration;
+
+    private void whenClassifying() {
+        classification = typeDeclaration.classification();
+    }
+
+    private ComponentClassification classification;
+
+    private void thenKindsAre(Set<ComponentKind> expectedKinds) {
+        assertThat(classification.kinds(), is(expectedKinds));
+    }
+
+    private void thenAnnotationFound(String annotationClassName) {
+        assertTrue(classification.annotation(annotationClassName).isPresent());
+    }
+
+    private void thenAggregateNameIs(String expectedName) {
+        assertThat(classification.aggregateName(), is(Optional.of(expectedName)));
+    }
+
+    @Test
+    public void innerRootIsClassified() throws IOException {
+        givenInnerTypeDeclaration(Path.of("model", "aggregate3", "Aggregate3.java"), "Root");
+        whenClassifying();
+        thenKindsAre(Set.of(ComponentKind.AGGREGATE_ROOT, ComponentKind.ENTITY_DEFINITION, ComponentKind.ENTITY));
+        thenAggregateNameIs("Aggregate3");
+        assertTrue(classification.isMessageListenerContainer());
+    }
+
+    private void givenInnerTypeDeclaration(Path testModelFile, String innerClassName) throws IOException {
+        typeDeclaration = DiscoveryTest.resolveTypeDeclaration(testModelFile, innerClassName);
+    }
+
+    @Test
+    public void classificationIsComputedOnce() throws IOException {
+        givenInnerTypeDeclaration(Path.of("model", "aggregate3", "Aggregate3.java"), "Factory");
+        whenClassifying();
+        assertThat(typeDeclaration.classification(), sameInstance(classification));
+        thenKindsAre(Set.of(ComponentKind.FACTORY));
+    }
+}
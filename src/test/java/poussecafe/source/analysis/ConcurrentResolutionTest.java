@@ -0,0 +1,114 @@
+package poussecafe.source.analysis;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.junit.Test;
+import poussecafe.source.DiscoveryTest;
+import poussecafe.source.ModelAssertions;
+import poussecafe.source.PathSource;
+import poussecafe.source.model.SourceModel;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ConcurrentResolutionTest {
+
+    @Test
+    public void lazyResolverResolvesOnceForAllThreads() throws Exception {
+        var resolvedClass = new ClassLoaderClassResolver().loadClass(new ClassName(CompilationUnitResolver.AGGREGATE_ROOT_CLASS));
+        var lazyResolver = new LazyResolver("AggregateRoot", () -> {
+            suppliedValues.incrementAndGet();
+            return resolvedClass;
+        });
+
+        var results = runConcurrently(lazyResolver::resolve);
+
+        for(Optional<ResolvedClass> result : results) {
+            assertThat(result, equalTo(resolvedClass));
+        }
+        assertThat(suppliedValues.get() >= 1, is(true));
+    }
+
+    private AtomicInteger suppliedValues = new AtomicInteger();
+
+    private <T> List<T> runConcurrently(Callable<T> task) throws InterruptedException, ExecutionException {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var start = new CountDownLatch(1);
+            var futures = new ArrayList<Future<T>>();
+            for(int i = 0; i < THREADS * TASKS_PER_THREAD; ++i) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            var results = new ArrayList<T>();
+            for(Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final int THREADS = 8;
+
+    private static final int TASKS_PER_THREAD = 16;
+
+    @Test
+    public void compilationUnitResolverIsThreadSafe() throws Exception {
+        var source = new PathSource(DiscoveryTest.testModelDirectory.resolve("model/aggregate1/Aggregate1.java"));
+        var unit = source.compilationUnit();
+        var resolver = new CompilationUnitResolver.Builder()
+                .compilationUnit(unit)
+                .classResolver(new ClassLoaderClassResolver())
+                .build();
+        for(Object importDeclaration : unit.imports()) {
+            resolver.tryRegister((ImportDeclaration) importDeclaration);
+        }
+
+        var results = runConcurrently(() -> List.of(
+                resolver.resolve(new ClassName("AggregateRoot")).qualifiedName(),
+                resolver.resolve(new ClassName("Root")).qualifiedName(),
+                resolver.resolve(new ClassName("String")).qualifiedName(),
+                resolver.resolve(new ClassName("Event1")).qualifiedName()));
+
+        for(List<String> result : results) {
+            assertThat(result, equalTo(List.of(
+                    CompilationUnitResolver.AGGREGATE_ROOT_CLASS,
+                    "poussecafe.source.testmodel.model.aggregate1.Aggregate1.Root",
+                    String.class.getCanonicalName(),
+                    "poussecafe.source.testmodel.model.events.Event1")));
+        }
+    }
+
+    @Test
+    public void concurrentScansShareClassResolver() throws Exception {
+        var classResolver = new ClassLoaderClassResolver();
+        var expectedModel = buildModel(new ClassLoaderClassResolver());
+
+        var models = runConcurrently(() -> buildModel(classResolver));
+
+        for(SourceModel model : models) {
+            new ModelAssertions(model).thenEquivalentTo(expectedModel);
+        }
+    }
+
+    private SourceModel buildModel(ClassResolver classResolver) throws IOException {
+        var builder = new SourceModelBuilder(classResolver);
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+        return builder.build();
+    }
+}
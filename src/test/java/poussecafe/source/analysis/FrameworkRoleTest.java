@@ -0,0 +1,48 @@
+package poussecafe.source.analysis;
+
+import java.util.List;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class FrameworkRoleTest {
+
+    @Test
+    public void signatureContainsRolesOfClass() {
+        givenResolvedClass("poussecafe.source.testmodel.model.aggregate1.Aggregate1", "Root");
+        whenComputingSignature();
+        thenSignatureHas(FrameworkRole.AGGREGATE_ROOT, true);
+        thenSignatureHas(FrameworkRole.ENTITY, true);
+        thenSignatureHas(FrameworkRole.DOMAIN_EVENT, false);
+        thenSignatureHas(FrameworkRole.VALUE_OBJECT, false);
+    }
+
+    private void givenResolvedClass(String rootClassName, String... innerClassPath) {
+        resolvedClass = classResolver.loadInnerClass(new ClassName(rootClassName), List.of(innerClassPath))
+                .orElseThrow();
+    }
+
+    private ClassResolver classResolver = new ClassLoaderClassResolver();
+
+    private ResolvedClass resolvedClass;
+
+    private void whenComputingSignature() {
+        signature = classResolver.roleSignature(resolvedClass);
+    }
+
+    private long signature;
+
+    private void thenSignatureHas(FrameworkRole role, boolean expected) {
+        assertThat(role.isIn(signature), is(expected));
+    }
+
+    @Test
+    public void signatureMatchesInstanceOf() throws ClassNotFoundException {
+        givenResolvedClass("poussecafe.source.testmodel.model.events.Event1");
+        whenComputingSignature();
+        for(FrameworkRole role : FrameworkRole.values()) {
+            thenSignatureHas(role, resolvedClass.instanceOf(role.className()));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package poussecafe.source.analysis;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResolutionResultTest {
+
+    @Test
+    public void notFoundThrowsWithoutStackTrace() {
+        givenResult(ResolutionResult.notFound("poussecafe.domain.DoesNotExist"));
+        whenThrowing();
+        assertThat(exception.getStackTrace().length, is(0));
+        assertThat(exception.getMessage(), equalTo("Unable to load class poussecafe.domain.DoesNotExist"));
+    }
+
+    private void givenResult(ResolutionResult result) {
+        this.result = result;
+    }
+
+    private ResolutionResult result;
+
+    private void whenThrowing() {
+        try {
+            result.orElseThrow();
+            fail();
+        } catch (ResolutionException e) {
+            exception = e;
+        }
+    }
+
+    private ResolutionException exception;
+
+    @Test
+    public void errorKeepsCause() {
+        var cause = new NoClassDefFoundError("poussecafe/domain/Broken");
+        givenResult(ResolutionResult.error("poussecafe.domain.Broken", cause));
+        whenThrowing();
+        assertThat(exception.getCause(), sameInstance(cause));
+    }
+
+    @Test
+    public void resolvedReturnsClass() {
+        var resolvedClass = new ClassLoaderClassResolver().resolvedClass(String.class);
+        givenResult(ResolutionResult.resolved(resolvedClass));
+        assertThat(result.isResolved(), is(true));
+        assertThat(result.orElseThrow(), sameInstance(resolvedClass));
+    }
+
+    @Test
+    public void lazyResolverKeepsResolutionError() {
+        var cause = new ResolutionException("Unable to load class poussecafe.domain.Broken");
+        var lazyResolver = new LazyResolver("Broken", () -> {
+            throw cause;
+        });
+        givenResult(lazyResolver.result());
+        assertThat(result.status(), is(ResolutionResult.Status.ERROR));
+        assertThat(result.cause().orElseThrow(), sameInstance(cause));
+        assertThat(lazyResolver.resolve().isPresent(), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lazyResolverPropagatesUnexpectedException() {
+        var lazyResolver = new LazyResolver("Broken", () -> {
+            throw new IllegalArgumentException();
+        });
+        lazyResolver.resolve();
+    }
+}
@@ -0,0 +1,98 @@
+package poussecafe.source.analysis;
+
+import java.util.Optional;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ResolvedAnnotationTest {
+
+    @Test
+    public void unrelatedAnnotationsAreNotResolved() {
+        givenMethod("@Override @SuppressWarnings(\"unused\") public void method() {}");
+        whenLookingUp(CompilationUnitResolver.MESSAGE_LISTENER_ANNOTATION_CLASS);
+        assertTrue(foundAnnotation.isEmpty());
+        thenResolutionsCount(0);
+    }
+
+    private void givenMethod(String methodSource) {
+        var parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setSource(("class Container { " + methodSource + " }").toCharArray());
+        var unit = (CompilationUnit) parser.createAST(null);
+        var type = (TypeDeclaration) unit.types().get(0);
+        method = type.getMethods()[0];
+    }
+
+    private MethodDeclaration method;
+
+    private void whenLookingUp(String annotationClassName) {
+        var annotatedElement = new AnnotatedElement.Builder<MethodDeclaration>()
+                .withResolver(resolver)
+                .withElement(method)
+                .build();
+        foundAnnotation = annotatedElement.findAnnotation(annotationClassName);
+    }
+
+    private CountingResolver resolver = new CountingResolver();
+
+    private static class CountingResolver implements Resolver {
+
+        @Override
+        public ResolvedTypeName resolve(ClassName name) {
+            ++resolutions;
+            var resolvedClass = classResolver.loadClass(name).orElseThrow();
+            return new ResolvedTypeName.Builder()
+                    .withResolver(this)
+                    .withName(name)
+                    .withResolvedClass(resolvedClass)
+                    .build();
+        }
+
+        private int resolutions;
+
+        @Override
+        public ClassResolver classResolver() {
+            return classResolver;
+        }
+
+        private ClassResolver classResolver = new ClassLoaderClassResolver();
+
+        @Override
+        public Optional<ClassName> importedClassName(String simpleName) {
+            if(simpleName.equals("MessageListener")) {
+                return Optional.of(new ClassName(CompilationUnitResolver.MESSAGE_LISTENER_ANNOTATION_CLASS));
+            } else {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private Optional<ResolvedAnnotation> foundAnnotation;
+
+    private void thenResolutionsCount(int expectedCount) {
+        assertThat(resolver.resolutions, is(expectedCount));
+    }
+
+    @Test
+    public void importedAnnotationIsMatchedWithoutResolution() {
+        givenMethod("@Override @MessageListener public void method() {}");
+        whenLookingUp(CompilationUnitResolver.MESSAGE_LISTENER_ANNOTATION_CLASS);
+        assertTrue(foundAnnotation.isPresent());
+        thenResolutionsCount(0);
+    }
+
+    @Test
+    public void qualifiedAnnotationIsResolved() {
+        givenMethod("@poussecafe.discovery.MessageListener public void method() {}");
+        whenLookingUp(CompilationUnitResolver.MESSAGE_LISTENER_ANNOTATION_CLASS);
+        assertTrue(foundAnnotation.isPresent());
+        thenResolutionsCount(1);
+    }
+}
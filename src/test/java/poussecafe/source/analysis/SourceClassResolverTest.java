@@ -0,0 +1,52 @@
+package poussecafe.source.analysis;
+
+import java.io.IOException;
+import org.junit.Test;
+import poussecafe.source.DiscoveryTest;
+import poussecafe.source.ModelAssertions;
+import poussecafe.source.validation.ValidationModelBuilder;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SourceClassResolverTest extends ClassResolverTest {
+
+    @Override
+    protected ClassResolver newClassResolver() {
+        return new SourceClassResolver.Builder()
+                .symbolTable(testModelSymbolTable())
+                .build();
+    }
+
+    private SourceSymbolTable testModelSymbolTable() {
+        try {
+            return new SourceSymbolTable.Builder()
+                    .includeTree(DiscoveryTest.testModelDirectory)
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void sourceModelFromSourcesEquivalentToModelFromClasses() throws IOException {
+        var classesBuilder = new SourceModelBuilder(new ClassLoaderClassResolver());
+        classesBuilder.includeTree(DiscoveryTest.testModelDirectory);
+
+        var sourcesBuilder = new SourceModelBuilder(newClassResolver());
+        sourcesBuilder.includeTree(DiscoveryTest.testModelDirectory);
+
+        new ModelAssertions(sourcesBuilder.build()).thenEquivalentTo(classesBuilder.build());
+    }
+
+    @Test
+    public void validationModelFromSourcesEqualsModelFromClasses() throws IOException {
+        var classesBuilder = new ValidationModelBuilder(new ClassLoaderClassResolver());
+        classesBuilder.includeTree(DiscoveryTest.testModelDirectory);
+
+        var sourcesBuilder = new ValidationModelBuilder(newClassResolver());
+        sourcesBuilder.includeTree(DiscoveryTest.testModelDirectory);
+
+        assertThat(sourcesBuilder.build(), equalTo(classesBuilder.build()));
+    }
+}
@@ -0,0 +1,85 @@
+package poussecafe.source.analysis;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import poussecafe.source.ParseProfile;
+import poussecafe.source.PathSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SourceSymbolTableTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void constantExpressionsAreFolded() throws IOException {
+        givenSource(Path.of("a", "Names.java"), "package a; public class Names {"
+                + " public static final String NAME = PREFIX + \"name\";"
+                + " public static final String PREFIX = \"p.\";"
+                + " public static final String INNER = (Inner.VALUE + 1);"
+                + " public static class Inner { static final String VALUE = \"v\"; } }");
+        whenBuildingSymbolTable();
+        thenConstantValueIs("a.Names", "NAME", "p.name");
+        thenConstantValueIs("a.Names", "INNER", "v1");
+    }
+
+    private void givenSource(Path relativePath, String content) throws IOException {
+        var file = temporaryFolder.getRoot().toPath().resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private void whenBuildingSymbolTable() throws IOException {
+        symbolTable = new SourceSymbolTable.Builder()
+                .includeTree(temporaryFolder.getRoot().toPath())
+                .build();
+    }
+
+    private SourceSymbolTable symbolTable;
+
+    private void thenConstantValueIs(String typeName, String fieldName, Object expectedValue) {
+        var declaredType = symbolTable.declaredType(typeName).orElseThrow();
+        assertThat(declaredType.constantValues().get(fieldName), equalTo(expectedValue));
+    }
+
+    @Test
+    public void supertypeInCapitalizedPackageIsResolved() throws IOException {
+        givenSource(Path.of("Pkg", "Base.java"), "package Pkg; public class Base {}");
+        givenSource(Path.of("b", "Sub.java"), "package b; public class Sub extends Pkg.Base {}");
+        whenBuildingSymbolTable();
+        thenSupertypeOf("b.Sub", "Pkg.Base", Optional.of("Pkg.Base"));
+    }
+
+    private void thenSupertypeOf(String typeName, String writtenName, Optional<String> expectedName) {
+        var declaredType = symbolTable.declaredType(typeName).orElseThrow();
+        assertThat(symbolTable.resolveSupertype(declaredType, writtenName, new ClassLoaderClassResolver()),
+                equalTo(expectedName));
+    }
+
+    @Test
+    public void inheritedMemberTypeIsResolved() throws IOException {
+        givenSource(Path.of("a", "Base.java"), "package a; public class Base { public interface Member {} }");
+        givenSource(Path.of("b", "Sub.java"), "package b; import a.Base;"
+                + " public class Sub extends Base { public static class Inner implements Member {} }");
+        whenBuildingSymbolTable();
+        thenSupertypeOf("b.Sub.Inner", "Member", Optional.of("a.Base.Member"));
+    }
+
+    @Test
+    public void includedSourceIsNotModified() throws IOException {
+        givenSource(Path.of("a", "Names.java"), "package a; public class Names {}");
+        var source = new PathSource(temporaryFolder.getRoot().toPath().resolve(Path.of("a", "Names.java")));
+        var unit = source.compilationUnit();
+        new SourceSymbolTable.Builder().includeSource(source);
+        assertThat(source.parseProfile(), equalTo(ParseProfile.FULL));
+        assertThat(source.compilationUnit(), sameInstance(unit));
+    }
+}
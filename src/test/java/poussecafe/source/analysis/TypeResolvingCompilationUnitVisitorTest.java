@@ -1,9 +1,15 @@
 package poussecafe.source.analysis;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 import poussecafe.source.PathSource;
+import poussecafe.source.metrics.PipelineMetrics;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public class TypeResolvingCompilationUnitVisitorTest implements ResolvedCompilationUnitVisitor {
@@ -21,11 +27,86 @@ public class TypeResolvingCompilationUnitVisitorTest implements ResolvedCompilat
 
     @Override
     public boolean visit(ResolvedTypeDeclaration type) {
-        if(type.unresolvedName().qualifiedName().equals("poussecafe.source.testmodel.model.aggregate1.Aggregate1.Root")) {
+        if(type.unresolvedName().qualifiedName().equals("poussecafe.source.testmodel.model.aggregate1.Aggregate1")) {
+            container = type;
+        } else if(type.unresolvedName().qualifiedName().equals("poussecafe.source.testmodel.model.aggregate1.Aggregate1.Root")) {
             foundRoot = AggregateRootClass.isAggregateRoot(type);
+            visitedRoot = type;
         }
         return true;
     }
 
     private boolean foundRoot;
+
+    private ResolvedTypeDeclaration container;
+
+    private ResolvedTypeDeclaration visitedRoot;
+
+    @Test
+    public void typeDeclarationsAreResolvedOncePerUnit() {
+        typeResolutionWithNestedTypes();
+        var root = container.innerType("Root").orElseThrow();
+        assertThat(root, sameInstance(visitedRoot));
+        assertThat(container.innerTypes().get(0), sameInstance(root));
+        assertThat(root.superclass().orElseThrow(), sameInstance(root.superclass().orElseThrow()));
+        assertThat(root.name(), sameInstance(root.name()));
+    }
+
+    @Test
+    public void methodsAreDispatchedToInterestedVisitorsOnly() {
+        var allMethods = new MethodCollector(VisitorInterests.all());
+        var allMethodsMetrics = visitAggregate1Sources(allMethods);
+        var listeners = new MethodCollector(new VisitorInterests.Builder()
+                .node(VisitedNode.TYPE)
+                .node(VisitedNode.METHOD)
+                .methodAnnotation(CompilationUnitResolver.MESSAGE_LISTENER_ANNOTATION_CLASS)
+                .build());
+        var listenersMetrics = visitAggregate1Sources(listeners);
+
+        assertThat(listeners.methods.size(), is(5));
+        assertTrue(listeners.methods.stream().allMatch(MessageListenerMethod::isMessageListener));
+        assertThat(allMethods.methods.size(), is(8));
+        assertTrue(listenersMetrics.snapshot().resolutionCalls() < allMethodsMetrics.snapshot().resolutionCalls());
+    }
+
+    private PipelineMetrics visitAggregate1Sources(ResolvedCompilationUnitVisitor collector) {
+        var metrics = new PipelineMetrics();
+        var visitor = new TypeResolvingCompilationUnitVisitor.Builder()
+                .withClassResolver(new ClassLoaderClassResolver())
+                .withMetrics(metrics)
+                .withVisitor(collector)
+                .build();
+        var aggregate1Directory = Path.of("", "src", "test", "java", "poussecafe", "source", "testmodel", "model", "aggregate1");
+        visitor.visit(new PathSource(aggregate1Directory.resolve("Aggregate1.java")));
+        visitor.visit(new PathSource(aggregate1Directory.resolve("Aggregate1Attributes.java")));
+        return metrics;
+    }
+
+    private static class MethodCollector implements ResolvedCompilationUnitVisitor {
+
+        MethodCollector(VisitorInterests interests) {
+            this.interests = interests;
+        }
+
+        private VisitorInterests interests;
+
+        @Override
+        public VisitorInterests interests() {
+            return interests;
+        }
+
+        @Override
+        public boolean visit(ResolvedTypeDeclaration type) {
+            return true;
+        }
+
+        @Override
+        public boolean visit(ResolvedMethod method) {
+            method.returnType().map(ResolvedType::toTypeName);
+            methods.add(method);
+            return false;
+        }
+
+        private List<ResolvedMethod> methods = new ArrayList<>();
+    }
 }
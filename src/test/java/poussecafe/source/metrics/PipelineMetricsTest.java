@@ -0,0 +1,76 @@
+package poussecafe.source.metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import poussecafe.source.DiscoveryTest;
+import poussecafe.source.ScannerConfiguration;
+import poussecafe.source.analysis.ClassLoaderClassResolver;
+import poussecafe.source.analysis.SourceModelBuilder;
+import poussecafe.source.analysis.SourceModelBuilderVisitor;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class PipelineMetricsTest {
+
+    @Test
+    public void scanningCollectsMetrics() throws IOException {
+        givenMetrics();
+        whenScanningTestModel();
+        thenMetricsPublished();
+    }
+
+    private void givenMetrics() {
+        metrics = new PipelineMetrics();
+        metrics.addListener(new PipelineMetricsListener() {
+            @Override
+            public void phaseCompleted(PipelinePhase phase, String subject, long durationNanos) {
+                completedPhases.add(phase);
+            }
+
+            @Override
+            public void snapshotPublished(PipelineMetricsSnapshot snapshot) {
+                publishedSnapshots.add(snapshot);
+            }
+        });
+    }
+
+    private PipelineMetrics metrics;
+
+    private List<PipelinePhase> completedPhases = new ArrayList<>();
+
+    private List<PipelineMetricsSnapshot> publishedSnapshots = new ArrayList<>();
+
+    private void whenScanningTestModel() throws IOException {
+        var builder = new SourceModelBuilder.Builder()
+                .classResolver(new ClassLoaderClassResolver())
+                .configuration(new ScannerConfiguration.Builder()
+                        .metrics(metrics)
+                        .build())
+                .build();
+        builder.includeTree(DiscoveryTest.testModelDirectory);
+    }
+
+    private void thenMetricsPublished() {
+        assertThat(publishedSnapshots.size(), is(1));
+        var snapshot = publishedSnapshots.get(0);
+        assertTrue(snapshot.scannedFiles() > 0);
+        assertTrue(snapshot.bytesRead() > 0);
+        assertThat(snapshot.parsedUnits(), equalTo(snapshot.scannedFiles()));
+        assertTrue(snapshot.visitedUnits() > 0);
+        assertTrue(snapshot.resolutionCalls() > 0);
+        assertTrue(snapshot.resolutionHitRate() > 0);
+        assertTrue(snapshot.classLookups() > 0);
+        assertThat(snapshot.visitorNanos().containsKey(SourceModelBuilderVisitor.class.getName()), is(true));
+
+        assertThat(completedPhases, hasItem(PipelinePhase.READ));
+        assertThat(completedPhases, hasItem(PipelinePhase.PARSE));
+        assertThat(completedPhases, hasItem(PipelinePhase.VISIT));
+        assertThat(completedPhases, hasItem(PipelinePhase.SCAN));
+    }
+}